@@ -0,0 +1,77 @@
+package com.ems.analytics.controller;
+
+import com.ems.analytics.dto.AnalyticsGroupBy;
+import com.ems.analytics.dto.HeadcountResponse;
+import com.ems.analytics.dto.SalaryHistogramResponse;
+import com.ems.analytics.dto.SalaryStatsResponse;
+import com.ems.analytics.service.EmployeeAnalyticsService;
+import com.ems.common.exception.InvalidRequestException;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/analytics/employees")
+public class EmployeeAnalyticsController {
+
+    private static final List<Double> DEFAULT_PERCENTILES = List.of(50.0, 90.0, 99.0);
+    private static final int MAX_PERCENTILES = 20;
+    private static final int MAX_BUCKETS = 100;
+
+    private final EmployeeAnalyticsService analyticsService;
+
+    public EmployeeAnalyticsController(EmployeeAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/headcount")
+    public ResponseEntity<HeadcountResponse> headcount(
+            @RequestParam(defaultValue = "DEPARTMENT") AnalyticsGroupBy groupBy,
+            @RequestParam(required = false) UUID departmentId,
+            @RequestParam(required = false) EmployeeRole role,
+            @RequestParam(required = false) EmployeeStatus status
+    ) {
+        return ResponseEntity.ok(analyticsService.headcount(groupBy, departmentId, role, status));
+    }
+
+    @GetMapping("/salaries")
+    public ResponseEntity<SalaryStatsResponse> salaries(
+            @RequestParam(required = false) AnalyticsGroupBy groupBy,
+            @RequestParam(required = false) List<Double> percentiles,
+            @RequestParam(required = false) UUID departmentId,
+            @RequestParam(required = false) EmployeeRole role,
+            @RequestParam(required = false) EmployeeStatus status
+    ) {
+        List<Double> requested = percentiles == null || percentiles.isEmpty() ? DEFAULT_PERCENTILES : percentiles;
+        if (requested.size() > MAX_PERCENTILES) {
+            throw new InvalidRequestException("At most " + MAX_PERCENTILES + " percentiles can be requested");
+        }
+        for (Double percentile : requested) {
+            if (percentile == null || !(percentile > 0 && percentile <= 100)) {
+                throw new InvalidRequestException("percentiles must be greater than 0 and at most 100");
+            }
+        }
+        return ResponseEntity.ok(analyticsService.salaryStats(groupBy, requested, departmentId, role, status));
+    }
+
+    @GetMapping("/salaries/histogram")
+    public ResponseEntity<SalaryHistogramResponse> salaryHistogram(
+            @RequestParam(defaultValue = "10") int buckets,
+            @RequestParam(required = false) UUID departmentId,
+            @RequestParam(required = false) EmployeeRole role,
+            @RequestParam(required = false) EmployeeStatus status
+    ) {
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new InvalidRequestException("buckets must be between 1 and " + MAX_BUCKETS);
+        }
+        return ResponseEntity.ok(analyticsService.salaryHistogram(buckets, departmentId, role, status));
+    }
+}
@@ -0,0 +1,8 @@
+package com.ems.analytics.dto;
+
+public enum AnalyticsGroupBy {
+    DEPARTMENT,
+    DESIGNATION,
+    ROLE,
+    STATUS
+}
@@ -0,0 +1,31 @@
+package com.ems.analytics.dto;
+
+public class HeadcountGroup {
+
+    private String key;
+    private long count;
+
+    public HeadcountGroup() {
+    }
+
+    public HeadcountGroup(String key, long count) {
+        this.key = key;
+        this.count = count;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
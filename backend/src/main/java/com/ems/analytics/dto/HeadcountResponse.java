@@ -0,0 +1,54 @@
+package com.ems.analytics.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public class HeadcountResponse {
+
+    private OffsetDateTime asOf;
+    private AnalyticsGroupBy groupBy;
+    private long total;
+    private List<HeadcountGroup> groups;
+
+    public HeadcountResponse() {
+    }
+
+    public HeadcountResponse(OffsetDateTime asOf, AnalyticsGroupBy groupBy, long total, List<HeadcountGroup> groups) {
+        this.asOf = asOf;
+        this.groupBy = groupBy;
+        this.total = total;
+        this.groups = groups;
+    }
+
+    public OffsetDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(OffsetDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public AnalyticsGroupBy getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(AnalyticsGroupBy groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<HeadcountGroup> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<HeadcountGroup> groups) {
+        this.groups = groups;
+    }
+}
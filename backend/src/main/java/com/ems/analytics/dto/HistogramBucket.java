@@ -0,0 +1,43 @@
+package com.ems.analytics.dto;
+
+import java.math.BigDecimal;
+
+public class HistogramBucket {
+
+    private BigDecimal from;
+    private BigDecimal to;
+    private long count;
+
+    public HistogramBucket() {
+    }
+
+    public HistogramBucket(BigDecimal from, BigDecimal to, long count) {
+        this.from = from;
+        this.to = to;
+        this.count = count;
+    }
+
+    public BigDecimal getFrom() {
+        return from;
+    }
+
+    public void setFrom(BigDecimal from) {
+        this.from = from;
+    }
+
+    public BigDecimal getTo() {
+        return to;
+    }
+
+    public void setTo(BigDecimal to) {
+        this.to = to;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.ems.analytics.dto;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public class SalaryHistogramResponse {
+
+    private OffsetDateTime asOf;
+    private long count;
+    private List<HistogramBucket> buckets;
+
+    public SalaryHistogramResponse() {
+    }
+
+    public SalaryHistogramResponse(OffsetDateTime asOf, long count, List<HistogramBucket> buckets) {
+        this.asOf = asOf;
+        this.count = count;
+        this.buckets = buckets;
+    }
+
+    public OffsetDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(OffsetDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public List<HistogramBucket> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<HistogramBucket> buckets) {
+        this.buckets = buckets;
+    }
+}
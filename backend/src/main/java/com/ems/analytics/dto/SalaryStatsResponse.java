@@ -0,0 +1,47 @@
+package com.ems.analytics.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public class SalaryStatsResponse {
+
+    private OffsetDateTime asOf;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AnalyticsGroupBy groupBy;
+    private List<SalaryStatsGroup> groups;
+
+    public SalaryStatsResponse() {
+    }
+
+    public SalaryStatsResponse(OffsetDateTime asOf, AnalyticsGroupBy groupBy, List<SalaryStatsGroup> groups) {
+        this.asOf = asOf;
+        this.groupBy = groupBy;
+        this.groups = groups;
+    }
+
+    public OffsetDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(OffsetDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public AnalyticsGroupBy getGroupBy() {
+        return groupBy;
+    }
+
+    public void setGroupBy(AnalyticsGroupBy groupBy) {
+        this.groupBy = groupBy;
+    }
+
+    public List<SalaryStatsGroup> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<SalaryStatsGroup> groups) {
+        this.groups = groups;
+    }
+}
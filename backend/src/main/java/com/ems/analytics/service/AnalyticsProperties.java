@@ -0,0 +1,46 @@
+package com.ems.analytics.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ems.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Where snapshot column files are written. Each refresh creates a new sub-directory and removes the previous one.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "ems-analytics");
+
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Rows read per query while building a snapshot.
+     */
+    private int pageSize = 5000;
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ems.analytics.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends fixed-width values to a memory-mapped column file, growing the mapping as needed.
+ */
+final class ColumnWriter implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final int width;
+    private MappedByteBuffer buffer;
+    private int rows;
+
+    ColumnWriter(Path file, int width, int initialRows) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.width = width;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) Math.max(initialRows, 1024) * width);
+    }
+
+    void putLong(long value) throws IOException {
+        ensureRoom();
+        buffer.putLong(rows++ * width, value);
+    }
+
+    void putInt(int value) throws IOException {
+        ensureRoom();
+        buffer.putInt(rows++ * width, value);
+    }
+
+    void putByte(byte value) throws IOException {
+        ensureRoom();
+        buffer.put(rows++ * width, value);
+    }
+
+    /**
+     * Trims the file to the rows written and maps it read-only.
+     */
+    MappedByteBuffer finish() throws IOException {
+        long size = (long) rows * width;
+        buffer = null;
+        channel.truncate(size);
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void ensureRoom() throws IOException {
+        if ((long) (rows + 1) * width > buffer.capacity()) {
+            long grown = Math.min((long) buffer.capacity() * 2, Integer.MAX_VALUE - (Integer.MAX_VALUE % width));
+            if (grown <= buffer.capacity()) {
+                throw new IOException("Column file is full");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, grown);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ems.analytics.service;
+
+import com.ems.analytics.dto.AnalyticsGroupBy;
+import com.ems.analytics.dto.HeadcountResponse;
+import com.ems.analytics.dto.SalaryHistogramResponse;
+import com.ems.analytics.dto.SalaryStatsResponse;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Aggregates over the in-memory {@link EmployeeColumnarSnapshot}; results are as of the last snapshot refresh.
+ */
+public interface EmployeeAnalyticsService {
+
+    HeadcountResponse headcount(AnalyticsGroupBy groupBy, UUID departmentId, EmployeeRole role, EmployeeStatus status);
+
+    SalaryStatsResponse salaryStats(AnalyticsGroupBy groupBy, List<Double> percentiles, UUID departmentId,
+                                    EmployeeRole role, EmployeeStatus status);
+
+    SalaryHistogramResponse salaryHistogram(int buckets, UUID departmentId, EmployeeRole role, EmployeeStatus status);
+}
@@ -0,0 +1,312 @@
+package com.ems.analytics.service;
+
+import com.ems.analytics.dto.AnalyticsGroupBy;
+import com.ems.analytics.dto.HeadcountGroup;
+import com.ems.analytics.dto.HeadcountResponse;
+import com.ems.analytics.dto.HistogramBucket;
+import com.ems.analytics.dto.SalaryHistogramResponse;
+import com.ems.analytics.dto.SalaryStatsGroup;
+import com.ems.analytics.dto.SalaryStatsResponse;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Scans the snapshot columns in fixed-size row chunks on the common fork-join pool. Group-bys take two passes: the
+ * first counts rows per chunk and group, which gives every chunk a private slice of one output array per group; the
+ * second copies salaries into those slices without any coordination, after which each group is sorted independently.
+ */
+@Service
+public class EmployeeAnalyticsServiceImpl implements EmployeeAnalyticsService {
+
+    private static final int CHUNK_ROWS = 1 << 16;
+    private static final int ANY = -1;
+    private static final int NONE = -2;
+
+    private final EmployeeSnapshotStore snapshotStore;
+
+    public EmployeeAnalyticsServiceImpl(EmployeeSnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
+    @Override
+    public HeadcountResponse headcount(AnalyticsGroupBy groupBy, UUID departmentId, EmployeeRole role,
+                                       EmployeeStatus status) {
+        EmployeeColumnarSnapshot snapshot = snapshotStore.snapshot();
+        Scan scan = new Scan(snapshot, groupBy, departmentId, role, status);
+        long[] totals = scan.groupTotals(scan.countPerChunk());
+
+        List<HeadcountGroup> groups = new ArrayList<>();
+        long total = 0;
+        for (int group = 0; group < totals.length; group++) {
+            if (totals[group] > 0) {
+                groups.add(new HeadcountGroup(scan.label(group), totals[group]));
+                total += totals[group];
+            }
+        }
+        groups.sort(Comparator.comparingLong(HeadcountGroup::getCount).reversed().thenComparing(HeadcountGroup::getKey));
+        return new HeadcountResponse(snapshot.asOf(), groupBy, total, groups);
+    }
+
+    @Override
+    public SalaryStatsResponse salaryStats(AnalyticsGroupBy groupBy, List<Double> percentiles, UUID departmentId,
+                                           EmployeeRole role, EmployeeStatus status) {
+        EmployeeColumnarSnapshot snapshot = snapshotStore.snapshot();
+        Scan scan = new Scan(snapshot, groupBy, departmentId, role, status);
+        int[][] counts = scan.countPerChunk();
+        long[] totals = scan.groupTotals(counts);
+
+        int[] groupStart = new int[totals.length + 1];
+        for (int group = 0; group < totals.length; group++) {
+            groupStart[group + 1] = groupStart[group] + (int) totals[group];
+        }
+        long[] salaries = scan.salariesByGroup(counts, groupStart);
+        IntStream.range(0, totals.length).parallel()
+                .forEach(group -> Arrays.sort(salaries, groupStart[group], groupStart[group + 1]));
+
+        List<SalaryStatsGroup> groups = new ArrayList<>();
+        for (int group = 0; group < totals.length; group++) {
+            int from = groupStart[group];
+            int to = groupStart[group + 1];
+            if (from == to) {
+                continue;
+            }
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += salaries[i];
+            }
+            SalaryStatsGroup stats = new SalaryStatsGroup();
+            stats.setKey(groupBy != null ? scan.label(group) : null);
+            stats.setCount(to - from);
+            stats.setMin(fromCents(salaries[from]));
+            stats.setMax(fromCents(salaries[to - 1]));
+            stats.setMean(BigDecimal.valueOf(sum).divide(BigDecimal.valueOf((long) to - from), 0, RoundingMode.HALF_UP)
+                    .movePointLeft(2));
+            Map<String, BigDecimal> values = new LinkedHashMap<>();
+            for (double percentile : percentiles) {
+                values.put(percentileKey(percentile), fromCents(salaries[from + nearestRank(percentile, to - from)]));
+            }
+            stats.setPercentiles(values);
+            groups.add(stats);
+        }
+        groups.sort(Comparator.comparingLong(SalaryStatsGroup::getCount).reversed());
+        return new SalaryStatsResponse(snapshot.asOf(), groupBy, groups);
+    }
+
+    @Override
+    public SalaryHistogramResponse salaryHistogram(int buckets, UUID departmentId, EmployeeRole role,
+                                                   EmployeeStatus status) {
+        EmployeeColumnarSnapshot snapshot = snapshotStore.snapshot();
+        Scan scan = new Scan(snapshot, null, departmentId, role, status);
+        long[] range = scan.salaryRange();
+        if (range == null) {
+            return new SalaryHistogramResponse(snapshot.asOf(), 0, List.of());
+        }
+
+        long min = range[0];
+        long width = Math.max(1, (range[1] - min) / buckets + 1);
+        long[] counts = scan.histogram(min, width, buckets);
+
+        List<HistogramBucket> result = new ArrayList<>(buckets);
+        long total = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            long lower = min + bucket * width;
+            result.add(new HistogramBucket(fromCents(lower), fromCents(lower + width), counts[bucket]));
+            total += counts[bucket];
+        }
+        return new SalaryHistogramResponse(snapshot.asOf(), total, result);
+    }
+
+    private static int nearestRank(double percentile, int count) {
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return Math.min(Math.max(rank, 1), count) - 1;
+    }
+
+    private static String percentileKey(double percentile) {
+        return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * One filtered pass over a snapshot, split into chunks of {@link #CHUNK_ROWS} rows.
+     */
+    private static final class Scan {
+
+        private final EmployeeColumnarSnapshot snapshot;
+        private final AnalyticsGroupBy groupBy;
+        private final int departmentCode;
+        private final int roleCode;
+        private final int statusCode;
+        private final int chunks;
+
+        Scan(EmployeeColumnarSnapshot snapshot, AnalyticsGroupBy groupBy, UUID departmentId, EmployeeRole role,
+             EmployeeStatus status) {
+            this.snapshot = snapshot;
+            this.groupBy = groupBy;
+            int code = departmentId != null ? snapshot.departmentCode(departmentId) : ANY;
+            // A department without employees in the snapshot matches nothing.
+            this.departmentCode = departmentId != null && code < 0 ? NONE : code;
+            this.roleCode = role != null ? role.ordinal() : ANY;
+            this.statusCode = status != null ? status.ordinal() : ANY;
+            this.chunks = (snapshot.rows() + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        }
+
+        int groups() {
+            if (groupBy == null) {
+                return 1;
+            }
+            return switch (groupBy) {
+                case DEPARTMENT -> snapshot.departments().size();
+                case DESIGNATION -> snapshot.designations().size();
+                case ROLE -> EmployeeRole.values().length;
+                case STATUS -> EmployeeStatus.values().length;
+            };
+        }
+
+        String label(int group) {
+            return switch (groupBy) {
+                case DEPARTMENT -> snapshot.departments().get(group).toString();
+                case DESIGNATION -> snapshot.designations().get(group);
+                case ROLE -> EmployeeRole.values()[group].name();
+                case STATUS -> EmployeeStatus.values()[group].name();
+            };
+        }
+
+        int[][] countPerChunk() {
+            int groups = groups();
+            int[][] counts = new int[chunks][groups];
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                EmployeeColumnarSnapshot.View view = snapshot.view();
+                int[] local = counts[chunk];
+                for (int row = firstRow(chunk), end = endRow(chunk); row < end; row++) {
+                    if (matches(view, row)) {
+                        local[group(view, row)]++;
+                    }
+                }
+            });
+            return counts;
+        }
+
+        long[] groupTotals(int[][] counts) {
+            long[] totals = new long[groups()];
+            for (int[] chunk : counts) {
+                for (int group = 0; group < totals.length; group++) {
+                    totals[group] += chunk[group];
+                }
+            }
+            return totals;
+        }
+
+        long[] salariesByGroup(int[][] counts, int[] groupStart) {
+            int groups = groupStart.length - 1;
+            // Where each chunk starts writing inside each group's slice.
+            int[][] offsets = new int[chunks][groups];
+            int[] next = Arrays.copyOf(groupStart, groups);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                for (int group = 0; group < groups; group++) {
+                    offsets[chunk][group] = next[group];
+                    next[group] += counts[chunk][group];
+                }
+            }
+
+            long[] salaries = new long[groupStart[groups]];
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                EmployeeColumnarSnapshot.View view = snapshot.view();
+                int[] position = offsets[chunk];
+                for (int row = firstRow(chunk), end = endRow(chunk); row < end; row++) {
+                    if (matches(view, row)) {
+                        salaries[position[group(view, row)]++] = view.salaryCents(row);
+                    }
+                }
+            });
+            return salaries;
+        }
+
+        long[] salaryRange() {
+            long[][] ranges = new long[chunks][];
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                EmployeeColumnarSnapshot.View view = snapshot.view();
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                for (int row = firstRow(chunk), end = endRow(chunk); row < end; row++) {
+                    if (matches(view, row)) {
+                        long salary = view.salaryCents(row);
+                        min = Math.min(min, salary);
+                        max = Math.max(max, salary);
+                    }
+                }
+                if (min <= max) {
+                    ranges[chunk] = new long[]{min, max};
+                }
+            });
+            long[] range = null;
+            for (long[] chunk : ranges) {
+                if (chunk != null) {
+                    range = range == null ? chunk : new long[]{Math.min(range[0], chunk[0]), Math.max(range[1], chunk[1])};
+                }
+            }
+            return range;
+        }
+
+        long[] histogram(long min, long width, int buckets) {
+            long[][] counts = new long[chunks][buckets];
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                EmployeeColumnarSnapshot.View view = snapshot.view();
+                long[] local = counts[chunk];
+                for (int row = firstRow(chunk), end = endRow(chunk); row < end; row++) {
+                    if (matches(view, row)) {
+                        local[(int) Math.min((view.salaryCents(row) - min) / width, buckets - 1)]++;
+                    }
+                }
+            });
+            long[] totals = new long[buckets];
+            for (long[] chunk : counts) {
+                for (int bucket = 0; bucket < buckets; bucket++) {
+                    totals[bucket] += chunk[bucket];
+                }
+            }
+            return totals;
+        }
+
+        private boolean matches(EmployeeColumnarSnapshot.View view, int row) {
+            return (departmentCode == ANY || view.department(row) == departmentCode)
+                    && (roleCode == ANY || view.role(row) == roleCode)
+                    && (statusCode == ANY || view.status(row) == statusCode);
+        }
+
+        private int group(EmployeeColumnarSnapshot.View view, int row) {
+            if (groupBy == null) {
+                return 0;
+            }
+            return switch (groupBy) {
+                case DEPARTMENT -> view.department(row);
+                case DESIGNATION -> view.designation(row);
+                case ROLE -> view.role(row);
+                case STATUS -> view.status(row);
+            };
+        }
+
+        private int firstRow(int chunk) {
+            return chunk * CHUNK_ROWS;
+        }
+
+        private int endRow(int chunk) {
+            return Math.min(snapshot.rows(), (chunk + 1) * CHUNK_ROWS);
+        }
+    }
+}
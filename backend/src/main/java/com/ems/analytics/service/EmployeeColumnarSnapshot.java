@@ -0,0 +1,116 @@
+package com.ems.analytics.service;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only columnar copy of the employees table, one memory-mapped file per column:
+ * <ul>
+ *     <li>{@code salary_cents} &ndash; {@code long}, salary in cents</li>
+ *     <li>{@code department}, {@code designation} &ndash; {@code int} index into {@link #departments()} /
+ *     {@link #designations()}</li>
+ *     <li>{@code role}, {@code status} &ndash; {@code byte} enum ordinal</li>
+ * </ul>
+ * Row {@code i} of every column describes the same employee. The mapped buffers are shared; use {@link #view()} to
+ * read them from a worker thread.
+ */
+public final class EmployeeColumnarSnapshot {
+
+    private final Path directory;
+    private final OffsetDateTime asOf;
+    private final int rows;
+    private final MappedByteBuffer salaryCents;
+    private final MappedByteBuffer department;
+    private final MappedByteBuffer designation;
+    private final MappedByteBuffer role;
+    private final MappedByteBuffer status;
+    private final List<UUID> departments;
+    private final Map<UUID, Integer> departmentCodes;
+    private final List<String> designations;
+
+    EmployeeColumnarSnapshot(Path directory, OffsetDateTime asOf, int rows, MappedByteBuffer salaryCents,
+                             MappedByteBuffer department, MappedByteBuffer designation, MappedByteBuffer role,
+                             MappedByteBuffer status, List<UUID> departments, Map<UUID, Integer> departmentCodes,
+                             List<String> designations) {
+        this.directory = directory;
+        this.asOf = asOf;
+        this.rows = rows;
+        this.salaryCents = salaryCents;
+        this.department = department;
+        this.designation = designation;
+        this.role = role;
+        this.status = status;
+        this.departments = departments;
+        this.departmentCodes = departmentCodes;
+        this.designations = designations;
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    public OffsetDateTime asOf() {
+        return asOf;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public List<UUID> departments() {
+        return departments;
+    }
+
+    /**
+     * Dictionary code of a department, or {@code -1} if no employee in the snapshot belongs to it.
+     */
+    public int departmentCode(UUID departmentId) {
+        Integer code = departmentCodes.get(departmentId);
+        return code != null ? code : -1;
+    }
+
+    public List<String> designations() {
+        return designations;
+    }
+
+    public View view() {
+        return new View();
+    }
+
+    /**
+     * Cursor over the columns with its own buffer duplicates, so each thread should use its own.
+     */
+    public final class View {
+
+        private final ByteBuffer salaryCents = EmployeeColumnarSnapshot.this.salaryCents.duplicate();
+        private final ByteBuffer department = EmployeeColumnarSnapshot.this.department.duplicate();
+        private final ByteBuffer designation = EmployeeColumnarSnapshot.this.designation.duplicate();
+        private final ByteBuffer role = EmployeeColumnarSnapshot.this.role.duplicate();
+        private final ByteBuffer status = EmployeeColumnarSnapshot.this.status.duplicate();
+
+        public long salaryCents(int row) {
+            return salaryCents.getLong(row << 3);
+        }
+
+        public int department(int row) {
+            return department.getInt(row << 2);
+        }
+
+        public int designation(int row) {
+            return designation.getInt(row << 2);
+        }
+
+        public int role(int row) {
+            return role.get(row);
+        }
+
+        public int status(int row) {
+            return status.get(row);
+        }
+    }
+}
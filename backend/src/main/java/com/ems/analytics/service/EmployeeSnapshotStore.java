@@ -0,0 +1,237 @@
+package com.ems.analytics.service;
+
+import com.ems.common.datasource.Shards;
+import com.ems.employee.repository.EmployeeAnalyticsRow;
+import com.ems.employee.repository.EmployeeRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Builds and holds the current {@link EmployeeColumnarSnapshot}. A refresh pages through the employees table in id
+ * order inside one read-only transaction (so it sees a consistent state and goes to a replica when routing is
+ * enabled), writes the columns into a fresh directory and swaps the new snapshot in. Queries never touch the database.
+ * <p>
+ * Scheduled refreshes run on a thread of their own: a full rebuild takes long enough to hold up the short jobs that
+ * share the application's task scheduler.
+ */
+@Component
+public class EmployeeSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSnapshotStore.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final Shards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService refresher;
+    private final AnalyticsProperties properties;
+    private final Timer refreshTimer;
+
+    private final Object refreshLock = new Object();
+    private volatile EmployeeColumnarSnapshot current;
+
+    public EmployeeSnapshotStore(EmployeeRepository employeeRepository, Shards shards,
+                                 PlatformTransactionManager transactionManager, AnalyticsProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ems-analytics-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.properties = properties;
+        this.refreshTimer = Timer.builder("ems.analytics.snapshot.refresh").register(meterRegistry);
+        Gauge.builder("ems.analytics.snapshot.rows", this, store -> {
+            EmployeeColumnarSnapshot snapshot = store.current;
+            return snapshot != null ? snapshot.rows() : 0;
+        }).register(meterRegistry);
+    }
+
+    public EmployeeColumnarSnapshot snapshot() {
+        EmployeeColumnarSnapshot snapshot = current;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (refreshLock) {
+            return current != null ? current : refresh();
+        }
+    }
+
+    public EmployeeColumnarSnapshot refresh() {
+        synchronized (refreshLock) {
+            EmployeeColumnarSnapshot previous = current;
+            EmployeeColumnarSnapshot next = refreshTimer.record(this::build);
+            current = next;
+            if (previous != null) {
+                // In-flight queries keep their mappings; on POSIX systems the files stay readable until unmapped.
+                deleteQuietly(previous.directory());
+            }
+            log.debug("Analytics snapshot refreshed with {} rows", next.rows());
+            return next;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        removeStaleSnapshots();
+        long interval = properties.getRefreshInterval().toMillis();
+        refresher.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                log.warn("Analytics snapshot refresh failed, keeping the previous snapshot: {}", ex.getMessage());
+            }
+        }, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+        EmployeeColumnarSnapshot snapshot = current;
+        if (snapshot != null) {
+            deleteQuietly(snapshot.directory());
+        }
+    }
+
+    private EmployeeColumnarSnapshot build() {
+        try {
+            Files.createDirectories(properties.getDirectory());
+            Path directory = Files.createTempDirectory(properties.getDirectory(), "snapshot-");
+            try {
+                return write(directory);
+            } catch (IOException | RuntimeException ex) {
+                deleteQuietly(directory);
+                throw ex;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write analytics snapshot", ex);
+        }
+    }
+
+    private EmployeeColumnarSnapshot write(Path directory) throws IOException {
+        long employees = shards.scatter(shard -> employeeRepository.count()).stream().mapToLong(Long::longValue).sum();
+        int expectedRows = (int) Math.min(employees, Integer.MAX_VALUE / Long.BYTES);
+        try (ColumnWriter salaryCents = new ColumnWriter(directory.resolve("salary_cents.col"), Long.BYTES, expectedRows);
+             ColumnWriter department = new ColumnWriter(directory.resolve("department.col"), Integer.BYTES, expectedRows);
+             ColumnWriter designation = new ColumnWriter(directory.resolve("designation.col"), Integer.BYTES, expectedRows);
+             ColumnWriter role = new ColumnWriter(directory.resolve("role.col"), Byte.BYTES, expectedRows);
+             ColumnWriter status = new ColumnWriter(directory.resolve("status.col"), Byte.BYTES, expectedRows)) {
+
+            Map<UUID, Integer> departmentCodes = new HashMap<>();
+            List<UUID> departments = new ArrayList<>();
+            Map<String, Integer> designationCodes = new HashMap<>();
+            List<String> designations = new ArrayList<>();
+            OffsetDateTime asOf = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+            // One shard after the other, each in its own read-only transaction: the column writers are filled sequentially.
+            int rows = 0;
+            for (int shard = 0; shard < shards.count(); shard++) {
+                rows += shards.read(shard, () -> transactionTemplate.execute(tx -> {
+                    int written = 0;
+                    UUID after = null;
+                    List<EmployeeAnalyticsRow> page;
+                    do {
+                        page = employeeRepository.findAnalyticsRows(after, PageRequest.of(0, properties.getPageSize()));
+                        for (EmployeeAnalyticsRow row : page) {
+                            try {
+                                salaryCents.putLong(toCents(row.getSalary()));
+                                department.putInt(departmentCodes.computeIfAbsent(row.getDepartmentId(), id -> {
+                                    departments.add(id);
+                                    return departments.size() - 1;
+                                }));
+                                designation.putInt(designationCodes.computeIfAbsent(row.getDesignation(), name -> {
+                                    designations.add(name);
+                                    return designations.size() - 1;
+                                }));
+                                role.putByte((byte) row.getRole().ordinal());
+                                status.putByte((byte) row.getStatus().ordinal());
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                            written++;
+                        }
+                        if (!page.isEmpty()) {
+                            after = page.get(page.size() - 1).getId();
+                        }
+                    } while (page.size() == properties.getPageSize());
+                    return written;
+                }));
+            }
+
+            return new EmployeeColumnarSnapshot(directory, asOf, rows, salaryCents.finish(), department.finish(),
+                    designation.finish(), role.finish(), status.finish(), List.copyOf(departments),
+                    Map.copyOf(departmentCodes), List.copyOf(designations));
+        }
+    }
+
+    private static long toCents(BigDecimal salary) {
+        return salary.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private void removeStaleSnapshots() {
+        // Left behind by instances that did not shut down cleanly. Live instances sharing the directory replace their
+        // snapshot every refresh interval, so anything much older than that is abandoned.
+        if (!Files.isDirectory(properties.getDirectory())) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(properties.getRefreshInterval().multipliedBy(2));
+        try (Stream<Path> children = Files.list(properties.getDirectory())) {
+            children.filter(p -> p.getFileName().toString().startsWith("snapshot-"))
+                    .filter(p -> lastModified(p).isBefore(cutoff))
+                    .forEach(EmployeeSnapshotStore::deleteQuietly);
+        } catch (IOException ex) {
+            log.warn("Could not clean up old analytics snapshots: {}", ex.getMessage());
+        }
+    }
+
+    private static Instant lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toInstant();
+        } catch (IOException ex) {
+            return Instant.now();
+        }
+    }
+
+    private static void deleteQuietly(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException ex) {
+            log.warn("Could not delete analytics snapshot {}: {}", directory, ex.getMessage());
+        }
+    }
+}
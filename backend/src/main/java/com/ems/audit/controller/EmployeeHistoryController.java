@@ -0,0 +1,35 @@
+package com.ems.audit.controller;
+
+import com.ems.audit.dto.EmployeeHistoryResponse;
+import com.ems.audit.service.EmployeeHistoryService;
+import com.ems.common.pagination.PageResponse;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/employees")
+public class EmployeeHistoryController {
+
+    private final EmployeeHistoryService historyService;
+
+    public EmployeeHistoryController(EmployeeHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<PageResponse<EmployeeHistoryResponse>> history(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(historyService.history(id, PageRequest.of(page, size)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.ems.audit.dto;
+
+import com.ems.common.event.ChangeType;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public class EmployeeHistoryResponse {
+
+    private UUID employeeId;
+    private ChangeType type;
+    private Long version;
+    private OffsetDateTime changedAt;
+    private String changedBy;
+    private String correlationId;
+    private Map<String, FieldChange> changes;
+
+    public UUID getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(UUID employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public void setType(ChangeType type) {
+        this.type = type;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public OffsetDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(OffsetDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
+    public Map<String, FieldChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(Map<String, FieldChange> changes) {
+        this.changes = changes;
+    }
+}
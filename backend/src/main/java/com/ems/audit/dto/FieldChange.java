@@ -0,0 +1,33 @@
+package com.ems.audit.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class FieldChange {
+
+    private JsonNode from;
+    private JsonNode to;
+
+    public FieldChange() {
+    }
+
+    public FieldChange(JsonNode from, JsonNode to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public JsonNode getFrom() {
+        return from;
+    }
+
+    public void setFrom(JsonNode from) {
+        this.from = from;
+    }
+
+    public JsonNode getTo() {
+        return to;
+    }
+
+    public void setTo(JsonNode to) {
+        this.to = to;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ems.audit.entity;
+
+import com.ems.common.event.ChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One audited change to an employee. Append-only; {@code changes} holds only the fields that changed, as a JSON
+ * object of {@code field: [before, after]} pairs.
+ */
+@Entity
+@Immutable
+@Table(name = "employee_history", indexes = {
+        @Index(name = "idx_employee_history_employee_changed_at", columnList = "employee_id, changed_at")
+})
+public class EmployeeHistory {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "employee_id", nullable = false, updatable = false)
+    private UUID employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20, updatable = false)
+    private ChangeType changeType;
+
+    @Column(name = "version", updatable = false)
+    private Long version;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private OffsetDateTime changedAt;
+
+    @Column(name = "changed_by", length = 254, updatable = false)
+    private String changedBy;
+
+    @Column(name = "correlation_id", length = 64, updatable = false)
+    private String correlationId;
+
+    @Column(name = "changes", nullable = false, length = 4000, updatable = false)
+    private String changes;
+
+    @PrePersist
+    void prePersist() {
+        // Assigned here rather than by the database so inserts can be batched.
+        if (id == null) {
+            id = UUID.randomUUID();
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(UUID employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public OffsetDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(OffsetDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
+    public String getChanges() {
+        return changes;
+    }
+
+    public void setChanges(String changes) {
+        this.changes = changes;
+    }
+}
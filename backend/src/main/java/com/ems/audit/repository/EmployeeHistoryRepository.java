@@ -0,0 +1,14 @@
+package com.ems.audit.repository;
+
+import com.ems.audit.entity.EmployeeHistory;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, UUID> {
+
+    Page<EmployeeHistory> findByEmployeeIdOrderByChangedAtDesc(UUID employeeId, Pageable pageable);
+}
@@ -0,0 +1,75 @@
+package com.ems.audit.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ems.audit")
+public class AuditProperties {
+
+    /**
+     * Size of the in-memory buffer between request threads and the history writer; rounded up to a power of two.
+     */
+    private int bufferCapacity = 8192;
+
+    /**
+     * How often the writer flushes buffered records. This is the usual delay before a change shows up in the history.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    private int batchSize = 500;
+
+    private Overflow overflow = Overflow.CALLER_RUNS;
+
+    /**
+     * Attempts at writing a batch before its records are given up on.
+     */
+    private int maxAttempts = 3;
+
+    public enum Overflow {
+        /** Discard the record and count it in {@code ems.audit.records{outcome=dropped}}. */
+        DROP,
+        /** Write the record synchronously on the request thread, so no history is lost. */
+        CALLER_RUNS
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(Overflow overflow) {
+        this.overflow = overflow;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ems.audit.service;
+
+import com.ems.common.event.ChangeType;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A change waiting in the audit buffer. {@code changes} maps each changed field to its {@code [before, after]} pair.
+ */
+final class AuditRecord {
+
+    private final UUID employeeId;
+    private final ChangeType type;
+    private final Long version;
+    private final OffsetDateTime changedAt;
+    private final String changedBy;
+    private final String correlationId;
+    private final Map<String, Object[]> changes;
+    private final long enqueuedNanos = System.nanoTime();
+
+    AuditRecord(UUID employeeId, ChangeType type, Long version, OffsetDateTime changedAt, String changedBy,
+                String correlationId, Map<String, Object[]> changes) {
+        this.employeeId = employeeId;
+        this.type = type;
+        this.version = version;
+        this.changedAt = changedAt;
+        this.changedBy = changedBy;
+        this.correlationId = correlationId;
+        this.changes = changes;
+    }
+
+    UUID employeeId() {
+        return employeeId;
+    }
+
+    ChangeType type() {
+        return type;
+    }
+
+    Long version() {
+        return version;
+    }
+
+    OffsetDateTime changedAt() {
+        return changedAt;
+    }
+
+    String changedBy() {
+        return changedBy;
+    }
+
+    String correlationId() {
+        return correlationId;
+    }
+
+    Map<String, Object[]> changes() {
+        return changes;
+    }
+
+    long enqueuedNanos() {
+        return enqueuedNanos;
+    }
+}
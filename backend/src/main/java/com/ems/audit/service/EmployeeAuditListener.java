@@ -0,0 +1,115 @@
+package com.ems.audit.service;
+
+import com.ems.common.config.CorrelationIdFilter;
+import com.ems.common.event.ChangeType;
+import com.ems.employee.dto.EmployeeResponse;
+import com.ems.employee.event.EmployeeChangedEvent;
+import com.ems.employee.event.EmployeesReassignedEvent;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Turns committed employee changes into audit records. Runs on the request thread after commit, so it only computes
+ * the field diff and hands it to {@link EmployeeAuditWriter}; nothing here touches the database.
+ */
+@Component
+public class EmployeeAuditListener {
+
+    private static final Map<String, Function<EmployeeResponse, Object>> AUDITED_FIELDS = auditedFields();
+
+    private final EmployeeAuditWriter writer;
+
+    public EmployeeAuditListener(EmployeeAuditWriter writer) {
+        this.writer = writer;
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeResponse current = event.getEmployee();
+        Map<String, Object[]> changes = diff(event.getPrevious(), current);
+        if (changes.isEmpty() && event.getType() != ChangeType.CREATED) {
+            return;
+        }
+        OffsetDateTime changedAt = current.getUpdatedAt() != null ? current.getUpdatedAt() : OffsetDateTime.now();
+        writer.submit(new AuditRecord(event.getEmployeeId(), event.getType(), current.getVersion(), changedAt,
+                currentActor(), currentCorrelationId(), changes));
+    }
+
+    @TransactionalEventListener
+    public void onEmployeesReassigned(EmployeesReassignedEvent event) {
+        String actor = currentActor();
+        String correlationId = currentCorrelationId();
+        for (UUID employeeId : event.getEmployeeIds()) {
+            Map<String, Object[]> changes = new LinkedHashMap<>();
+            changes.put("departmentId", new Object[]{event.getPreviousDepartmentId(), event.getDepartmentId()});
+            // The bulk update does not read the rows back, so the new version is not known here.
+            writer.submit(new AuditRecord(employeeId, ChangeType.UPDATED, null, event.getUpdatedAt(), actor,
+                    correlationId, changes));
+        }
+    }
+
+    static Map<String, Object[]> diff(EmployeeResponse previous, EmployeeResponse current) {
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        AUDITED_FIELDS.forEach((name, getter) -> {
+            Object before = previous != null ? getter.apply(previous) : null;
+            Object after = getter.apply(current);
+            if (!sameValue(before, after)) {
+                changes.put(name, new Object[]{before, after});
+            }
+        });
+        return changes;
+    }
+
+    private static boolean sameValue(Object a, Object b) {
+        if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+            return x.compareTo(y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static String currentCorrelationId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object correlationId = attributes.getAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return correlationId != null ? correlationId.toString() : null;
+    }
+
+    private static Map<String, Function<EmployeeResponse, Object>> auditedFields() {
+        Map<String, Function<EmployeeResponse, Object>> fields = new LinkedHashMap<>();
+        fields.put("firstName", EmployeeResponse::getFirstName);
+        fields.put("lastName", EmployeeResponse::getLastName);
+        fields.put("email", EmployeeResponse::getEmail);
+        fields.put("phone", EmployeeResponse::getPhone);
+        fields.put("designation", EmployeeResponse::getDesignation);
+        fields.put("salary", EmployeeResponse::getSalary);
+        fields.put("departmentId", EmployeeResponse::getDepartmentId);
+        fields.put("role", EmployeeResponse::getRole);
+        fields.put("status", EmployeeResponse::getStatus);
+        return fields;
+    }
+}
@@ -0,0 +1,181 @@
+package com.ems.audit.service;
+
+import com.ems.audit.entity.EmployeeHistory;
+import com.ems.audit.repository.EmployeeHistoryRepository;
+import com.ems.common.concurrent.MpscRingBuffer;
+import com.ems.common.deadline.RequestDeadline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves audit records from request threads to the {@code employee_history} table. {@link #submit} only appends to a
+ * lock-free ring buffer; a scheduled flush drains it and inserts the records in JDBC batches. What happens when the
+ * buffer is full is set by {@code ems.audit.overflow}.
+ * <p>
+ * Records still buffered when the process dies are lost; the flush interval bounds how many that can be.
+ */
+@Component
+public class EmployeeAuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeAuditWriter.class);
+
+    private final EmployeeHistoryRepository historyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskScheduler taskScheduler;
+    private final AuditProperties properties;
+    private final MpscRingBuffer<AuditRecord> buffer;
+
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter callerRuns;
+    private final Counter failed;
+    private final Timer latency;
+    private final DistributionSummary batchSizes;
+
+    // Guards the consumer side of the buffer and the pending batch.
+    private final Object flushLock = new Object();
+    private final List<AuditRecord> pending = new ArrayList<>();
+    private int attempts;
+
+    public EmployeeAuditWriter(EmployeeHistoryRepository historyRepository, PlatformTransactionManager transactionManager,
+                               ObjectMapper objectMapper, TaskScheduler taskScheduler, AuditProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.historyRepository = historyRepository;
+        // Records are submitted after the audited transaction committed, possibly while its resources are still bound.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+
+        Gauge.builder("ems.audit.buffer.size", buffer, MpscRingBuffer::size)
+                .description("Audit records waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("ems.audit.buffer.capacity", buffer, MpscRingBuffer::capacity).register(meterRegistry);
+        this.written = Counter.builder("ems.audit.records").tag("outcome", "written").register(meterRegistry);
+        this.dropped = Counter.builder("ems.audit.records").tag("outcome", "dropped").register(meterRegistry);
+        this.callerRuns = Counter.builder("ems.audit.records").tag("outcome", "caller_runs").register(meterRegistry);
+        this.failed = Counter.builder("ems.audit.records").tag("outcome", "failed").register(meterRegistry);
+        this.latency = Timer.builder("ems.audit.flush.latency")
+                .description("Time from a change being submitted to its history row being written")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("ems.audit.flush.batch.size").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::flush, properties.getFlushInterval());
+    }
+
+    void submit(AuditRecord record) {
+        if (buffer.offer(record)) {
+            return;
+        }
+        if (properties.getOverflow() == AuditProperties.Overflow.DROP) {
+            dropped.increment();
+            return;
+        }
+        callerRuns.increment();
+        try {
+            // On the request thread, after the audited change committed; the audit row is owed regardless of its deadline.
+            RequestDeadline.withoutDeadline(() -> persist(List.of(record)));
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.error("Could not write audit record for employee {}: {}", record.employeeId(), ex.getMessage());
+        }
+    }
+
+    void flush() {
+        synchronized (flushLock) {
+            while (true) {
+                if (pending.isEmpty() && buffer.drainTo(pending, properties.getBatchSize()) == 0) {
+                    return;
+                }
+                if (!writePending()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    private boolean writePending() {
+        try {
+            persist(pending);
+            pending.clear();
+            attempts = 0;
+            return true;
+        } catch (RuntimeException ex) {
+            if (++attempts < properties.getMaxAttempts()) {
+                log.warn("Writing {} audit records failed, retrying on the next flush: {}", pending.size(), ex.getMessage());
+            } else {
+                log.error("Giving up on {} audit records after {} attempts: {}", pending.size(), attempts, ex.getMessage());
+                failed.increment(pending.size());
+                pending.clear();
+                attempts = 0;
+            }
+            return false;
+        }
+    }
+
+    private void persist(List<AuditRecord> records) {
+        List<EmployeeHistory> rows = new ArrayList<>(records.size());
+        for (AuditRecord record : records) {
+            rows.add(toRow(record));
+        }
+        transactionTemplate.executeWithoutResult(status -> historyRepository.saveAll(rows));
+
+        long now = System.nanoTime();
+        for (AuditRecord record : records) {
+            latency.record(now - record.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        }
+        written.increment(records.size());
+        batchSizes.record(records.size());
+    }
+
+    private EmployeeHistory toRow(AuditRecord record) {
+        EmployeeHistory row = new EmployeeHistory();
+        row.setEmployeeId(record.employeeId());
+        row.setChangeType(record.type());
+        row.setVersion(record.version());
+        row.setChangedAt(record.changedAt());
+        row.setChangedBy(record.changedBy());
+        row.setCorrelationId(record.correlationId());
+        try {
+            row.setChanges(objectMapper.writeValueAsString(record.changes()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialise audit changes", ex);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ems.audit.service;
+
+import com.ems.audit.dto.EmployeeHistoryResponse;
+import com.ems.common.pagination.PageResponse;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface EmployeeHistoryService {
+
+    PageResponse<EmployeeHistoryResponse> history(UUID employeeId, Pageable pageable);
+}
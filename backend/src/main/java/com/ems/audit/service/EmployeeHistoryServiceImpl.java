@@ -0,0 +1,81 @@
+package com.ems.audit.service;
+
+import com.ems.audit.dto.EmployeeHistoryResponse;
+import com.ems.audit.dto.FieldChange;
+import com.ems.audit.entity.EmployeeHistory;
+import com.ems.audit.repository.EmployeeHistoryRepository;
+import com.ems.common.datasource.Shards;
+import com.ems.common.exception.NotFoundException;
+import com.ems.common.pagination.PageMeta;
+import com.ems.common.pagination.PageResponse;
+import com.ems.employee.repository.EmployeeRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class EmployeeHistoryServiceImpl implements EmployeeHistoryService {
+
+    private final EmployeeHistoryRepository historyRepository;
+    private final EmployeeRepository employeeRepository;
+    private final Shards shards;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeHistoryServiceImpl(EmployeeHistoryRepository historyRepository, EmployeeRepository employeeRepository,
+                                      Shards shards, ObjectMapper objectMapper) {
+        this.historyRepository = historyRepository;
+        this.employeeRepository = employeeRepository;
+        this.shards = shards;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public PageResponse<EmployeeHistoryResponse> history(UUID employeeId, Pageable pageable) {
+        if (!shards.read(shards.shardOf(employeeId), () -> employeeRepository.existsById(employeeId))) {
+            throw new NotFoundException("Employee not found");
+        }
+        Page<EmployeeHistory> page = historyRepository.findByEmployeeIdOrderByChangedAtDesc(employeeId, pageable);
+        List<EmployeeHistoryResponse> items = page.getContent().stream().map(this::toResponse).toList();
+        return new PageResponse<>(
+                items,
+                new PageMeta(pageable.getPageNumber(), pageable.getPageSize(), page.getTotalElements(), page.getTotalPages())
+        );
+    }
+
+    private EmployeeHistoryResponse toResponse(EmployeeHistory row) {
+        EmployeeHistoryResponse response = new EmployeeHistoryResponse();
+        response.setEmployeeId(row.getEmployeeId());
+        response.setType(row.getChangeType());
+        response.setVersion(row.getVersion());
+        response.setChangedAt(row.getChangedAt());
+        response.setChangedBy(row.getChangedBy());
+        response.setCorrelationId(row.getCorrelationId());
+        response.setChanges(expand(row.getChanges()));
+        return response;
+    }
+
+    private Map<String, FieldChange> expand(String changes) {
+        JsonNode delta;
+        try {
+            delta = objectMapper.readTree(changes);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Corrupt audit record", ex);
+        }
+        Map<String, FieldChange> expanded = new LinkedHashMap<>();
+        delta.fields().forEachRemaining(field ->
+                expanded.put(field.getKey(), new FieldChange(field.getValue().get(0), field.getValue().get(1))));
+        return expanded;
+    }
+}
@@ -5,14 +5,18 @@ import com.ems.auth.dto.LoginRequest;
 import com.ems.auth.dto.RegisterRequest;
 import com.ems.auth.entity.AuthUser;
 import com.ems.auth.repository.AuthUserRepository;
+import com.ems.common.datasource.Shards;
+import com.ems.common.event.ChangeType;
 import com.ems.common.exception.ConflictException;
 import com.ems.common.exception.UnauthorizedException;
 import com.ems.employee.dto.EmployeeResponse;
 import com.ems.employee.entity.Employee;
 import com.ems.employee.entity.EmployeeStatus;
+import com.ems.employee.event.EmployeeChangedEvent;
 import com.ems.employee.mapper.EmployeeMapper;
 import com.ems.employee.repository.EmployeeRepository;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,13 +33,18 @@ public class AuthServiceImpl implements AuthService {
     private final AuthUserRepository authUserRepository;
     private final EmployeeRepository employeeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final Shards shards;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final EmployeeMapper employeeMapper = new EmployeeMapper();
 
-    public AuthServiceImpl(AuthUserRepository authUserRepository, EmployeeRepository employeeRepository, PasswordEncoder passwordEncoder) {
+    public AuthServiceImpl(AuthUserRepository authUserRepository, EmployeeRepository employeeRepository, PasswordEncoder passwordEncoder,
+                           Shards shards, ApplicationEventPublisher eventPublisher) {
         this.authUserRepository = authUserRepository;
         this.employeeRepository = employeeRepository;
         this.passwordEncoder = passwordEncoder;
+        this.shards = shards;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -57,11 +66,14 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public EmployeeResponse register(RegisterRequest request) {
-        if (employeeRepository.existsByEmailIgnoreCase(request.getEmail()) || authUserRepository.existsByEmailIgnoreCase(request.getEmail())) {
+        boolean employeeExists = shards.scatter(shard -> employeeRepository.existsByEmailIgnoreCase(request.getEmail())).contains(true);
+        if (employeeExists || authUserRepository.existsByEmailIgnoreCase(request.getEmail())) {
             throw new ConflictException("Employee with email already exists");
         }
 
         Employee employee = new Employee();
+        // On the home shard, next to its login, so both rows are written in one transaction.
+        employee.setId(shards.newId(Shards.HOME));
         employee.setFirstName(request.getFirstName());
         employee.setLastName(request.getLastName());
         employee.setEmail(request.getEmail());
@@ -81,6 +93,9 @@ public class AuthServiceImpl implements AuthService {
         authUser.setPasswordHash(passwordEncoder.encode(request.getPassword()));
         authUserRepository.save(authUser);
 
+        // Audited, relayed and streamed like employees created through the employee API.
+        eventPublisher.publishEvent(new EmployeeChangedEvent(savedEmployee.getId(), ChangeType.CREATED,
+                employeeMapper.toResponse(savedEmployee), null));
         return employeeMapper.toResponse(savedEmployee);
     }
 
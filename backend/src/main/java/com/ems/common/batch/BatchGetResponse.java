@@ -0,0 +1,33 @@
+package com.ems.common.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Results of a batch get, one per requested id and in request order. Ids that do not exist are reported with
+ * {@code found=false} rather than failing the whole batch.
+ */
+public class BatchGetResponse<T> {
+
+    private List<BatchGetResult<T>> items;
+
+    public BatchGetResponse() {
+    }
+
+    public BatchGetResponse(List<BatchGetResult<T>> items) {
+        this.items = items;
+    }
+
+    public static <T> BatchGetResponse<T> inRequestOrder(List<UUID> ids, Map<UUID, T> found) {
+        return new BatchGetResponse<>(ids.stream().map(id -> new BatchGetResult<>(id, found.get(id))).toList());
+    }
+
+    public List<BatchGetResult<T>> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchGetResult<T>> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ems.common.batch;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+public class BatchGetResult<T> {
+
+    private UUID id;
+    private boolean found;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private T item;
+
+    public BatchGetResult() {
+    }
+
+    public BatchGetResult(UUID id, T item) {
+        this.id = id;
+        this.found = item != null;
+        this.item = item;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    public void setItem(T item) {
+        this.item = item;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ems.common.batch;
+
+public enum BatchMode {
+    /**
+     * The first failing operation aborts the batch and nothing is written.
+     */
+    ATOMIC,
+    /**
+     * Failing operations are reported individually; the remaining ones are still written.
+     */
+    PER_OPERATION
+}
@@ -0,0 +1,7 @@
+package com.ems.common.batch;
+
+public enum BatchOperationType {
+    CREATE,
+    UPDATE,
+    DELETE
+}
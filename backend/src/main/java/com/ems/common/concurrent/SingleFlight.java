@@ -0,0 +1,129 @@
+package com.ems.common.concurrent;
+
+import com.ems.common.deadline.RequestDeadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent calls: the first caller for a key runs the call on its own thread, and callers that
+ * arrive with the same key while it is running wait for and share its result or exception. Nothing is cached; the
+ * next call after completion runs again.
+ * <p>
+ * A flight is only joined within {@code timeout} of its start. Callers that would have to wait past that run the call
+ * themselves, so one stuck query does not hold up every request for its key. A zero timeout turns coalescing off.
+ * <p>
+ * Deadlines stay per caller: a caller waits no longer than its own {@link RequestDeadline}, and when the first caller
+ * fails because its deadline passed, the callers waiting for it run the call themselves instead of sharing that failure.
+ * <p>
+ * Shared results must not be modified by callers. A caller that joins a flight started before its own write committed
+ * can see the state from before that write.
+ */
+public final class SingleFlight<K, V> {
+
+    private record Flight<V>(CompletableFuture<V> result, long startedNanos) {
+    }
+
+    /**
+     * Ends a flight whose first caller ran out of its own deadline.
+     */
+    private static final class LeaderExpired extends RuntimeException {
+        LeaderExpired(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
+
+    private final Map<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+    private final Counter executed;
+    private final Counter coalesced;
+    private final Counter timedOut;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeoutNanos = timeout.toNanos();
+        this.executed = counter(meterRegistry, name, "executed");
+        this.coalesced = counter(meterRegistry, name, "coalesced");
+        this.timedOut = counter(meterRegistry, name, "timed_out");
+        Gauge.builder("ems.singleflight.in_flight", inFlight, Map::size)
+                .description("Keys with a call running")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        if (timeoutNanos <= 0) {
+            return call.get();
+        }
+        Flight<V> mine = new Flight<>(new CompletableFuture<>(), System.nanoTime());
+        Flight<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing == null) {
+            return lead(key, mine, call);
+        }
+
+        long remaining = timeoutNanos - (System.nanoTime() - existing.startedNanos());
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null) {
+            remaining = Math.min(remaining, deadline.remainingNanos());
+        }
+        if (remaining <= 0) {
+            timedOut.increment();
+            return call.get();
+        }
+        try {
+            V value = existing.result().get(remaining, TimeUnit.NANOSECONDS);
+            coalesced.increment();
+            return value;
+        } catch (TimeoutException ex) {
+            timedOut.increment();
+            return call.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof LeaderExpired) {
+                timedOut.increment();
+                return call.get();
+            }
+            coalesced.increment();
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause().getMessage(), ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced call", ex);
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> call) {
+        executed.increment();
+        try {
+            V value = call.get();
+            flight.result().complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.result().completeExceptionally(RequestDeadline.currentExpired() ? new LeaderExpired(ex) : ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String outcome) {
+        return Counter.builder("ems.singleflight.calls")
+                .description("Calls by whether they ran, shared a running call, or gave up waiting for one")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
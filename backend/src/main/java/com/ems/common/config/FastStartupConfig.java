@@ -0,0 +1,27 @@
+package com.ems.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.web.SecurityFilterChain;
+
+import javax.sql.DataSource;
+
+/**
+ * The {@code fast-startup} profile turns on lazy initialization. What nearly every request needs stays eager, so a
+ * pod that reports ready does not make its first requests pay for connecting to the database or bootstrapping
+ * Hibernate. Everything else, such as analytics, audit history and the API docs, is created on first use.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestInfrastructure() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class,
+                SecurityFilterChain.class);
+    }
+}
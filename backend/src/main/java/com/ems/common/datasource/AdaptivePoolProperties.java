@@ -0,0 +1,109 @@
+package com.ems.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ems.datasource.pool.adaptive")
+public class AdaptivePoolProperties {
+
+    private boolean enabled = true;
+
+    private int minSize = 5;
+
+    private int maxSize = 40;
+
+    private int step = 2;
+
+    private Duration interval = Duration.ofSeconds(5);
+
+    /**
+     * Mean connection acquire time above which the pool is considered starved.
+     */
+    private Duration acquireWaitThreshold = Duration.ofMillis(5);
+
+    /**
+     * How far the mean connection usage time may rise above its observed baseline before growth stops and the
+     * pool backs off, i.e. the database itself is the bottleneck.
+     */
+    private double latencyTolerance = 1.5;
+
+    /**
+     * Shrink once active connections stay below this fraction of the maximum for {@link #shrinkAfterIntervals}.
+     */
+    private double shrinkUtilization = 0.5;
+
+    private int shrinkAfterIntervals = 6;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void setMinSize(int minSize) {
+        this.minSize = minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    public void setStep(int step) {
+        this.step = step;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getAcquireWaitThreshold() {
+        return acquireWaitThreshold;
+    }
+
+    public void setAcquireWaitThreshold(Duration acquireWaitThreshold) {
+        this.acquireWaitThreshold = acquireWaitThreshold;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public double getShrinkUtilization() {
+        return shrinkUtilization;
+    }
+
+    public void setShrinkUtilization(double shrinkUtilization) {
+        this.shrinkUtilization = shrinkUtilization;
+    }
+
+    public int getShrinkAfterIntervals() {
+        return shrinkAfterIntervals;
+    }
+
+    public void setShrinkAfterIntervals(int shrinkAfterIntervals) {
+        this.shrinkAfterIntervals = shrinkAfterIntervals;
+    }
+}
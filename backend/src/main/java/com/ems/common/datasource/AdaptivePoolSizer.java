@@ -0,0 +1,148 @@
+package com.ems.common.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the Hikari pool between {@code min-size} and {@code max-size} from the acquire-wait and connection-usage
+ * timers Hikari already reports to Micrometer ({@code hikaricp.connections.acquire} / {@code .usage}).
+ * <p>
+ * Grows while callers queue for connections and per-connection latency stays near its baseline; backs off when
+ * latency degrades (the database, not the pool, is saturated) and shrinks after a sustained period of low usage.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ems.datasource.pool.adaptive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdaptivePoolSizer {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptivePoolSizer.class);
+
+    private final HikariDataSource dataSource;
+    private final AdaptivePoolProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler taskScheduler;
+
+    private final Counter grown;
+    private final Counter shrunk;
+
+    private long lastAcquireCount;
+    private double lastAcquireNanos;
+    private long lastUsageCount;
+    private double lastUsageNanos;
+    private double usageBaselineNanos = Double.NaN;
+    private int lowUtilizationIntervals;
+
+    public AdaptivePoolSizer(HikariDataSource dataSource, AdaptivePoolProperties properties, MeterRegistry meterRegistry,
+                             TaskScheduler taskScheduler) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.taskScheduler = taskScheduler;
+
+        String pool = dataSource.getPoolName();
+        this.grown = Counter.builder("ems.datasource.pool.resizes").tag("pool", pool).tag("direction", "grow")
+                .register(meterRegistry);
+        this.shrunk = Counter.builder("ems.datasource.pool.resizes").tag("pool", pool).tag("direction", "shrink")
+                .register(meterRegistry);
+        Gauge.builder("ems.datasource.pool.target.size", dataSource, ds -> ds.getHikariConfigMXBean().getMaximumPoolSize())
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int initial = clamp(dataSource.getMaximumPoolSize());
+        if (initial != dataSource.getMaximumPoolSize()) {
+            resize(initial);
+        }
+        taskScheduler.scheduleWithFixedDelay(this::adjust, properties.getInterval());
+    }
+
+    synchronized void adjust() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+
+        Timer acquire = timer("hikaricp.connections.acquire");
+        Timer usage = timer("hikaricp.connections.usage");
+        if (acquire == null || usage == null) {
+            return;
+        }
+
+        double acquireMean = deltaMean(acquire.count() - lastAcquireCount, acquire.totalTime(TimeUnit.NANOSECONDS) - lastAcquireNanos);
+        double usageMean = deltaMean(usage.count() - lastUsageCount, usage.totalTime(TimeUnit.NANOSECONDS) - lastUsageNanos);
+        lastAcquireCount = acquire.count();
+        lastAcquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+        lastUsageCount = usage.count();
+        lastUsageNanos = usage.totalTime(TimeUnit.NANOSECONDS);
+
+        if (usageMean > 0) {
+            usageBaselineNanos = Double.isNaN(usageBaselineNanos)
+                    ? usageMean
+                    : Math.min(usageMean, usageBaselineNanos * 0.9 + usageMean * 0.1);
+        }
+
+        int current = dataSource.getHikariConfigMXBean().getMaximumPoolSize();
+        int pending = pool.getThreadsAwaitingConnection();
+        int active = pool.getActiveConnections();
+        boolean starved = pending > 0 || acquireMean > properties.getAcquireWaitThreshold().toNanos();
+        boolean degraded = usageMean > 0 && usageMean > usageBaselineNanos * properties.getLatencyTolerance();
+
+        if (starved && degraded) {
+            lowUtilizationIntervals = 0;
+            resize(clamp(current - properties.getStep()));
+        } else if (starved) {
+            lowUtilizationIntervals = 0;
+            resize(clamp(current + Math.max(properties.getStep(), pending)));
+        } else if (active < current * properties.getShrinkUtilization()) {
+            if (++lowUtilizationIntervals >= properties.getShrinkAfterIntervals()) {
+                lowUtilizationIntervals = 0;
+                resize(clamp(current - properties.getStep()));
+            }
+        } else {
+            lowUtilizationIntervals = 0;
+        }
+    }
+
+    private void resize(int target) {
+        HikariConfigMXBean config = dataSource.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        if (target == current) {
+            return;
+        }
+        if (config.getMinimumIdle() > target) {
+            config.setMinimumIdle(target);
+        }
+        config.setMaximumPoolSize(target);
+        (target > current ? grown : shrunk).increment();
+        log.info("Resized connection pool {} from {} to {}", dataSource.getPoolName(), current, target);
+    }
+
+    private int clamp(int size) {
+        return Math.max(properties.getMinSize(), Math.min(properties.getMaxSize(), size));
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.find(name).tag("pool", dataSource.getPoolName()).timer();
+    }
+
+    private static double deltaMean(long count, double totalNanos) {
+        return count <= 0 ? 0 : totalNanos / count;
+    }
+}
@@ -0,0 +1,165 @@
+package com.ems.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stands in for replication in local setups where the replicas are separate H2 databases: each run copies every table
+ * of the primary into each replica. The primary is read in one snapshot and each replica is rewritten in one
+ * transaction, so replica readers see either the previous copy or the new one, never a mix.
+ * <p>
+ * Every copy also records when its snapshot was taken in {@value #HEARTBEAT_TABLE} on the replica, which
+ * {@link #LAG_QUERY} turns into the replica lag the health check compares against {@code max-lag}.
+ */
+final class H2LocalReplicator {
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    static final String LAG_QUERY =
+            "SELECT DATEDIFF('MILLISECOND', snapshot_at, CURRENT_TIMESTAMP) FROM " + HEARTBEAT_TABLE;
+
+    private static final Logger log = LoggerFactory.getLogger(H2LocalReplicator.class);
+
+    private final DataSource source;
+    private final Map<String, ? extends DataSource> targets;
+
+    H2LocalReplicator(DataSource source, Map<String, ? extends DataSource> targets) {
+        this.source = source;
+        this.targets = targets;
+    }
+
+    void replicate() {
+        Snapshot snapshot;
+        try {
+            snapshot = snapshot();
+        } catch (SQLException e) {
+            log.warn("Could not read the primary, replicas {} fall further behind: {}", targets.keySet(), e.getMessage());
+            return;
+        }
+        targets.forEach((name, target) -> {
+            try {
+                write(target, snapshot);
+            } catch (SQLException e) {
+                log.warn("Could not copy the primary to {}: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private Snapshot snapshot() throws SQLException {
+        try (Connection connection = source.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                Timestamp takenAt;
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery("SELECT CURRENT_TIMESTAMP")) {
+                    rs.next();
+                    takenAt = rs.getTimestamp(1);
+                }
+                List<Table> tables = new ArrayList<>();
+                for (String name : tableNames(connection)) {
+                    tables.add(read(connection, name));
+                }
+                return new Snapshot(takenAt, tables);
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static List<String> tableNames(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES"
+                     + " WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private static Table read(Connection connection, String name) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM \"" + name + "\"")) {
+            int columnCount = rs.getMetaData().getColumnCount();
+            List<String> columns = new ArrayList<>(columnCount);
+            for (int i = 1; i <= columnCount; i++) {
+                columns.add(rs.getMetaData().getColumnName(i));
+            }
+            List<Object[]> rows = new ArrayList<>();
+            while (rs.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = rs.getObject(i + 1);
+                }
+                rows.add(row);
+            }
+            return new Table(name, columns, rows);
+        }
+    }
+
+    private static void write(DataSource target, Snapshot snapshot) throws SQLException {
+        try (Connection connection = target.getConnection()) {
+            connection.setReadOnly(false);
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+                statement.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE + " (snapshot_at TIMESTAMP NOT NULL)");
+                for (Table table : snapshot.tables()) {
+                    statement.execute("DELETE FROM \"" + table.name() + "\"");
+                    insert(connection, table);
+                }
+                statement.execute("DELETE FROM " + HEARTBEAT_TABLE);
+                try (PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO " + HEARTBEAT_TABLE + " (snapshot_at) VALUES (?)")) {
+                    insert.setTimestamp(1, snapshot.takenAt());
+                    insert.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+                }
+            }
+        }
+    }
+
+    private static void insert(Connection connection, Table table) throws SQLException {
+        if (table.rows().isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO \"" + table.name() + "\" (\"" + String.join("\", \"", table.columns()) + "\") VALUES ("
+                + String.join(", ", Collections.nCopies(table.columns().size(), "?")) + ")";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (Object[] row : table.rows()) {
+                for (int i = 0; i < row.length; i++) {
+                    insert.setObject(i + 1, row[i]);
+                }
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private record Snapshot(Timestamp takenAt, List<Table> tables) {
+    }
+
+    private record Table(String name, List<String> columns, List<Object[]> rows) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.ems.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies the schema Hibernate created in one H2 database into others, for local setups with several in-memory
+ * databases.
+ */
+final class H2SchemaCopy {
+
+    private static final Logger log = LoggerFactory.getLogger(H2SchemaCopy.class);
+
+    private H2SchemaCopy() {
+    }
+
+    static void copy(DataSource source, Map<String, ? extends DataSource> targets) {
+        List<String> ddl = new ArrayList<>();
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NODATA")) {
+            while (rs.next()) {
+                ddl.add(rs.getString(1));
+            }
+        } catch (SQLException e) {
+            log.warn("Could not export the source schema, {} are left as they are: {}", targets.keySet(), e.getMessage());
+            return;
+        }
+
+        targets.forEach((name, target) -> {
+            try (Connection connection = target.getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setReadOnly(false);
+                for (String sql : ddl) {
+                    if (!sql.startsWith("CREATE USER")) {
+                        statement.execute(sql);
+                    }
+                }
+                log.info("Copied {} schema statements to {}", ddl.size(), name);
+            } catch (SQLException e) {
+                log.warn("Could not copy the schema to {}: {}", name, e.getMessage());
+            }
+        });
+    }
+}
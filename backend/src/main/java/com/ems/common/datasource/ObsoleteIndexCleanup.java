@@ -0,0 +1,85 @@
+package com.ems.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Drops indexes the entities no longer declare, on every shard. {@code ddl-auto: update} creates renamed and widened
+ * indexes but never removes the ones they replace, which would otherwise be kept up to date on every write.
+ */
+@Component
+public class ObsoleteIndexCleanup {
+
+    private static final Logger log = LoggerFactory.getLogger(ObsoleteIndexCleanup.class);
+
+    /**
+     * Replaced or unused indexes by table.
+     */
+    private static final Map<String, List<String>> OBSOLETE = Map.of(
+            "employees", List.of(
+                    // Widened to idx_employees_department_status_salary.
+                    "idx_employees_department_status",
+                    // The changes feed follows the outbox change stream instead of updated_at.
+                    "idx_employees_updated_at_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Shards shards;
+
+    public ObsoleteIndexCleanup(JdbcTemplate jdbcTemplate, Shards shards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropObsoleteIndexes() {
+        try {
+            shards.scatterWrite(shard -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                OBSOLETE.forEach((table, indexes) -> indexes.forEach(index -> drop(connection, table, index, shard)));
+                return null;
+            }));
+        } catch (RuntimeException ex) {
+            log.warn("Could not drop obsolete indexes: {}", ex.getMessage());
+        }
+    }
+
+    private static void drop(Connection connection, String table, String index, int shard) {
+        try {
+            if (!exists(connection, table, index)) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP INDEX " + index + " ON " + table);
+            }
+            log.info("Dropped obsolete index {} on shard {}", index, shard);
+        } catch (SQLException ex) {
+            log.warn("Could not drop obsolete index {} on shard {}: {}", index, shard, ex.getMessage());
+        }
+    }
+
+    private static boolean exists(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, tableName, false, false)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
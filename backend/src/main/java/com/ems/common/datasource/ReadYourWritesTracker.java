@@ -0,0 +1,57 @@
+package com.ems.common.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which clients wrote recently so their reads can stay on the primary until replicas have caught up.
+ * The current client is bound per request by {@link ReadYourWritesFilter}.
+ */
+public class ReadYourWritesTracker {
+
+    private static final ThreadLocal<String> CURRENT_CLIENT = new ThreadLocal<>();
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public static void bind(String clientKey) {
+        CURRENT_CLIENT.set(clientKey);
+    }
+
+    public static void clear() {
+        CURRENT_CLIENT.remove();
+    }
+
+    public void recordWrite() {
+        String client = CURRENT_CLIENT.get();
+        if (client != null) {
+            lastWrites.put(client, System.nanoTime());
+        }
+    }
+
+    public boolean mustReadFromPrimary() {
+        String client = CURRENT_CLIENT.get();
+        if (client == null) {
+            return false;
+        }
+        Long last = lastWrites.get(client);
+        if (last == null) {
+            return false;
+        }
+        if (System.nanoTime() - last < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(client, last);
+        return false;
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWrites.values().removeIf(last -> now - last >= windowNanos);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ems.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read replicas with their last observed health and lag. Selection is round-robin over replicas that are up and
+ * within the configured lag bound; {@code null} means "use the primary".
+ */
+public class ReplicaSet {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaSet.class);
+
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaSet(List<Replica> replicas, String lagQuery, long maxLagMillis) {
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    public Replica select() {
+        int n = replicas.size();
+        if (n == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            Replica candidate = replicas.get((start + i) % n);
+            if (candidate.isUsable(maxLagMillis)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean wasUsable = replica.isUsable(maxLagMillis);
+            try (Connection connection = replica.dataSource().getConnection()) {
+                if (!connection.isValid(2)) {
+                    replica.markDown();
+                } else {
+                    replica.markUp(lagQuery == null || lagQuery.isBlank() ? 0 : queryLag(connection));
+                }
+            } catch (Exception e) {
+                replica.markDown();
+                if (wasUsable) {
+                    log.warn("Replica {} failed its health check, routing reads to other replicas or the primary: {}",
+                            replica.name(), e.getMessage());
+                }
+            }
+            boolean usable = replica.isUsable(maxLagMillis);
+            if (wasUsable != usable) {
+                log.info("Replica {} is now {} (lag {} ms)", replica.name(), usable ? "in rotation" : "out of rotation",
+                        replica.lagMillis());
+            }
+        }
+    }
+
+    private long queryLag(Connection connection) throws Exception {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(lagQuery)) {
+            return rs.next() ? rs.getLong(1) : Long.MAX_VALUE;
+        }
+    }
+
+    public void close() {
+        replicas.forEach(r -> r.dataSource().close());
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean up = true;
+        private volatile long lagMillis;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public long lagMillis() {
+            return lagMillis;
+        }
+
+        boolean isUsable(long maxLagMillis) {
+            return up && lagMillis <= maxLagMillis;
+        }
+
+        void markUp(long lag) {
+            this.lagMillis = lag;
+            this.up = true;
+        }
+
+        void markDown() {
+            this.up = false;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ems.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool with a primary pool plus read replicas when
+ * {@code ems.datasource.routing.enabled=true}. See {@link ReadWriteRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ems.datasource.routing", name = "enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    ReplicaSet replicaSet(RoutingDataSourceProperties properties, MeterRegistry meterRegistry) {
+        List<ReplicaSet.Replica> replicas = new ArrayList<>();
+        for (RoutingDataSourceProperties.Replica config : properties.getReplicas()) {
+            HikariDataSource ds = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(config.getUrl())
+                    .username(config.getUsername())
+                    .password(config.getPassword())
+                    .build();
+            ds.setPoolName("ems-" + config.getName());
+            ds.setMaximumPoolSize(config.getMaximumPoolSize());
+            ds.setReadOnly(true);
+            ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaSet.Replica(config.getName(), ds));
+        }
+        String lagQuery = properties.getLagQuery() == null && properties.getLocalReplicationInterval() != null
+                ? H2LocalReplicator.LAG_QUERY
+                : properties.getLagQuery();
+        return new ReplicaSet(replicas, lagQuery, properties.getMaxLag().toMillis());
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(RoutingDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, ReplicaSet replicaSet, ReadYourWritesTracker readYourWritesTracker) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicaSet, readYourWritesTracker);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startMonitoring(ApplicationReadyEvent event) {
+        RoutingDataSourceProperties properties = event.getApplicationContext().getBean(RoutingDataSourceProperties.class);
+        ReplicaSet replicaSet = event.getApplicationContext().getBean(ReplicaSet.class);
+        ReadYourWritesTracker tracker = event.getApplicationContext().getBean(ReadYourWritesTracker.class);
+        TaskScheduler scheduler = event.getApplicationContext().getBean(TaskScheduler.class);
+
+        HikariDataSource primary = event.getApplicationContext().getBean("primaryDataSource", HikariDataSource.class);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicaSet.replicas().forEach(r -> replicas.put("replica " + r.name(), r.dataSource()));
+        if (properties.isCopySchemaOnStartup()) {
+            H2SchemaCopy.copy(primary, replicas);
+        }
+        if (properties.getLocalReplicationInterval() != null) {
+            H2LocalReplicator replicator = new H2LocalReplicator(primary, replicas);
+            replicator.replicate();
+            scheduler.scheduleWithFixedDelay(replicator::replicate, properties.getLocalReplicationInterval());
+        }
+        replicaSet.checkHealth();
+        scheduler.scheduleWithFixedDelay(replicaSet::checkHealth, properties.getHealthCheckInterval());
+        scheduler.scheduleWithFixedDelay(tracker::evictExpired, properties.getReadYourWritesWindow());
+    }
+}
@@ -0,0 +1,156 @@
+package com.ems.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "ems.datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Query run on each replica that returns its replication lag in milliseconds, e.g. against a heartbeat table.
+     * When unset, healthy replicas are assumed to be current.
+     */
+    private String lagQuery;
+
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * How long reads from a client stay on the primary after that client performed a write.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Copies the primary schema to every replica at startup. Only meant for local H2 setups where the replicas are
+     * separate in-memory databases without real replication.
+     */
+    private boolean copySchemaOnStartup = false;
+
+    /**
+     * Copies the primary's data to every replica at this interval, standing in for replication in local H2 setups;
+     * replicas then lag the primary by up to this much. Unset, nothing is copied and the replicas only hold what real
+     * replication puts there. Sets {@code lag-query} to the copy's heartbeat unless one is configured.
+     */
+    private Duration localReplicationInterval;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public boolean isCopySchemaOnStartup() {
+        return copySchemaOnStartup;
+    }
+
+    public void setCopySchemaOnStartup(boolean copySchemaOnStartup) {
+        this.copySchemaOnStartup = copySchemaOnStartup;
+    }
+
+    public Duration getLocalReplicationInterval() {
+        return localReplicationInterval;
+    }
+
+    public void setLocalReplicationInterval(Duration localReplicationInterval) {
+        this.localReplicationInterval = localReplicationInterval;
+    }
+
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
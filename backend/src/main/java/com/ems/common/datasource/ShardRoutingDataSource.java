@@ -0,0 +1,50 @@
+package com.ems.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out connections of the shard bound to the calling thread by {@link Shards}, or of the home shard when none is
+ * bound. Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so a transaction
+ * can bind its shard after it has begun.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final List<HikariDataSource> otherShards;
+
+    public ShardRoutingDataSource(DataSource home, List<HikariDataSource> otherShards) {
+        this.otherShards = List.copyOf(otherShards);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Shards.HOME, home);
+        for (int i = 0; i < otherShards.size(); i++) {
+            targets.put(i + 1, otherShards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(home);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Every shard except the home shard, in shard order starting at shard 1.
+     */
+    public List<HikariDataSource> otherShards() {
+        return otherShards;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = Shards.current();
+        return shard != null ? shard : Shards.HOME;
+    }
+
+    public void close() {
+        otherShards.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ems.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured pool with one pool per shard when {@code ems.datasource.sharding.enabled=true}. See
+ * {@link Shards} and {@link ShardRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ems.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    HikariDataSource homeShardDataSource(DataSourceProperties dataSourceProperties,
+                                         @Value("${ems.datasource.routing.enabled:false}") boolean routingEnabled) {
+        if (routingEnabled) {
+            throw new IllegalStateException("ems.datasource.sharding and ems.datasource.routing cannot both be enabled");
+        }
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(destroyMethod = "close")
+    ShardRoutingDataSource shardRoutingDataSource(HikariDataSource homeShardDataSource,
+                                                  ShardingDataSourceProperties properties, MeterRegistry meterRegistry) {
+        List<HikariDataSource> shards = new ArrayList<>();
+        for (ShardingDataSourceProperties.Shard config : properties.getShards()) {
+            HikariDataSource ds = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(config.getUrl())
+                    .username(config.getUsername())
+                    .password(config.getPassword())
+                    .build();
+            ds.setPoolName("ems-" + config.getName());
+            ds.setMaximumPoolSize(config.getMaximumPoolSize());
+            ds.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.add(ds);
+        }
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(homeShardDataSource, shards);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void copySchema(ContextRefreshedEvent event) {
+        // Runs before ApplicationReadyEvent listeners, which start loading from all shards.
+        ShardingDataSourceProperties properties = event.getApplicationContext().getBean(ShardingDataSourceProperties.class);
+        if (!properties.isCopySchemaOnStartup()) {
+            return;
+        }
+        ShardRoutingDataSource routing = event.getApplicationContext().getBean(ShardRoutingDataSource.class);
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        for (int i = 0; i < routing.otherShards().size(); i++) {
+            shards.put("shard " + (i + 1), routing.otherShards().get(i));
+        }
+        H2SchemaCopy.copy(event.getApplicationContext().getBean("homeShardDataSource", HikariDataSource.class), shards);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ems.common.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spreads the employees table over several databases. {@code spring.datasource} is the home shard: it holds every
+ * other table and is shard 0; {@link #shards} adds shards 1..n. Cannot be combined with
+ * {@code ems.datasource.routing}.
+ * <p>
+ * Outbox events are written in the same transaction as the employee change, i.e. on the employee's shard, and the
+ * relay only reads the home shard; the change stream therefore misses employee events from other shards. The
+ * in-memory read model stays off.
+ */
+@ConfigurationProperties(prefix = "ems.datasource.sharding")
+public class ShardingDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Threads running per-shard queries of a scatter-gather concurrently.
+     */
+    private int scatterParallelism = 16;
+
+    /**
+     * How long a scatter-gather waits for the slowest shard before failing the request.
+     */
+    private Duration scatterTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Copies the home shard schema to every other shard at startup. Only meant for local H2 setups where the shards
+     * are separate in-memory databases that Hibernate does not create.
+     */
+    private boolean copySchemaOnStartup = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public int getScatterParallelism() {
+        return scatterParallelism;
+    }
+
+    public void setScatterParallelism(int scatterParallelism) {
+        this.scatterParallelism = scatterParallelism;
+    }
+
+    public Duration getScatterTimeout() {
+        return scatterTimeout;
+    }
+
+    public void setScatterTimeout(Duration scatterTimeout) {
+        this.scatterTimeout = scatterTimeout;
+    }
+
+    public boolean isCopySchemaOnStartup() {
+        return copySchemaOnStartup;
+    }
+
+    public void setCopySchemaOnStartup(boolean copySchemaOnStartup) {
+        this.copySchemaOnStartup = copySchemaOnStartup;
+    }
+
+    public static class Shard {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
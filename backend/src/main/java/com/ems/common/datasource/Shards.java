@@ -0,0 +1,271 @@
+package com.ems.common.datasource;
+
+import com.ems.common.deadline.RequestDeadline;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.core.Ordered;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Shard placement of employees and helpers to run work on one or all shards. An employee lives on the shard its id
+ * hashes to, so point lookups need no directory and an update never moves a row. With sharding disabled there is a
+ * single shard and every helper runs its work inline, in the caller's transaction.
+ * <p>
+ * The shard of a transaction is taken from the calling thread when its first statement needs a connection (see
+ * {@link ShardRoutingDataSource}); threads without a bound shard use the home shard.
+ */
+@Component
+public class Shards {
+
+    public static final int HOME = 0;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private final int count;
+    private final Duration timeout;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final ExecutorService executor;
+
+    public Shards(ShardingDataSourceProperties properties, PlatformTransactionManager transactionManager) {
+        this.count = properties.isEnabled() ? 1 + properties.getShards().size() : 1;
+        this.timeout = properties.getScatterTimeout();
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        if (count > 1) {
+            AtomicInteger threads = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getScatterParallelism()), r -> {
+                Thread thread = new Thread(r, "ems-shard-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    public int shardOf(UUID id) {
+        return (int) Long.remainderUnsigned(id.getMostSignificantBits() ^ id.getLeastSignificantBits(), count);
+    }
+
+    /**
+     * A random id that places a new employee on {@code shard}, so it can be written in a transaction already bound
+     * there.
+     */
+    public UUID newId(int shard) {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (shardOf(id) != shard);
+        return id;
+    }
+
+    /**
+     * Binds the current transaction to {@code shard} until it completes. Must be called before the transaction's
+     * first statement; a transaction cannot span shards.
+     */
+    public void bind(int shard) {
+        if (!isSharded()) {
+            return;
+        }
+        Integer bound = CURRENT.get();
+        if (bound != null) {
+            if (bound != shard) {
+                throw new IllegalStateException("Transaction is bound to shard " + bound + ", cannot use shard " + shard);
+            }
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Binding a shard requires an active transaction");
+        }
+        CURRENT.set(shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // Ahead of after-commit listeners, which may open transactions of their own on the home shard.
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                CURRENT.remove();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                CURRENT.remove();
+            }
+        });
+    }
+
+    /**
+     * Runs {@code work} in a read-only transaction on {@code shard} and returns its result. When the calling thread is
+     * already on that shard, {@code work} runs inline in the caller's transaction.
+     */
+    public <T> T read(int shard, Supplier<T> work) {
+        Integer bound = CURRENT.get();
+        if (!isSharded() || (bound != null ? bound : HOME) == shard) {
+            return work.get();
+        }
+        return await(List.of(submit(shard, s -> work.get(), readTemplate))).get(0);
+    }
+
+    /**
+     * Runs {@code work} in a read-write transaction on {@code shard} and returns its result. When the calling thread is
+     * already on that shard, {@code work} runs on it and joins the caller's transaction if there is one; otherwise the
+     * transaction commits before this method returns.
+     */
+    public <T> T write(int shard, Supplier<T> work) {
+        Integer bound = CURRENT.get();
+        if (!isSharded() || (bound != null ? bound : HOME) == shard) {
+            return writeTemplate.execute(tx -> work.get());
+        }
+        return await(List.of(submit(shard, s -> work.get(), writeTemplate))).get(0);
+    }
+
+    /**
+     * Runs {@code work} on every shard concurrently, each in its own read-only transaction, and returns the results
+     * in shard order.
+     */
+    public <T> List<T> scatter(IntFunction<T> work) {
+        return scatter(work, readTemplate);
+    }
+
+    /**
+     * Like {@link #scatter} but in read-write transactions. Each shard commits on its own; a failure on one shard does
+     * not undo what the others wrote.
+     */
+    public <T> List<T> scatterWrite(IntFunction<T> work) {
+        return scatter(work, writeTemplate);
+    }
+
+    /**
+     * K-way merge of per-shard results that are each sorted by {@code order}: skips the first {@code offset} rows of
+     * the merged sequence and returns at most {@code limit} rows after them.
+     */
+    public static <T> List<T> merge(List<? extends List<T>> sorted, Comparator<? super T> order, long offset, int limit) {
+        record Head<T>(T row, Iterator<T> rest) {
+        }
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, sorted.size()), (a, b) -> order.compare(a.row(), b.row()));
+        for (List<T> rows : sorted) {
+            Iterator<T> it = rows.iterator();
+            if (it.hasNext()) {
+                heads.add(new Head<>(it.next(), it));
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.max(0, limit));
+        long skipped = 0;
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head<T> head = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                merged.add(head.row());
+            }
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    private <T> List<T> scatter(IntFunction<T> work, TransactionTemplate template) {
+        if (!isSharded()) {
+            return Collections.singletonList(work.apply(HOME));
+        }
+        List<Future<T>> futures = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            futures.add(submit(shard, work, template));
+        }
+        return await(futures);
+    }
+
+    private <T> Future<T> submit(int shard, IntFunction<T> work, TransactionTemplate template) {
+        RequestDeadline requestDeadline = RequestDeadline.current();
+        return executor.submit(() -> {
+            CURRENT.set(shard);
+            RequestDeadline.bind(requestDeadline);
+            try {
+                return template.execute(tx -> work.apply(shard));
+            } finally {
+                RequestDeadline.clear();
+                CURRENT.remove();
+            }
+        });
+    }
+
+    private <T> List<T> await(List<Future<T>> futures) {
+        RequestDeadline requestDeadline = RequestDeadline.current();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        if (requestDeadline != null) {
+            deadline = Math.min(deadline, System.nanoTime() + requestDeadline.remainingNanos());
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shards", ex);
+        } catch (TimeoutException ex) {
+            if (requestDeadline != null && requestDeadline.isExpired()) {
+                throw new QueryTimeoutException("Shards did not answer within the request deadline", ex);
+            }
+            throw new IllegalStateException("Shards did not answer within " + timeout, ex);
+        } catch (ExecutionException ex) {
+            // Domain exceptions such as NotFoundException reach the caller unchanged.
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause().getMessage(), ex.getCause());
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ems.common.deadline;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds transactions started under a {@link RequestDeadline} by the time the request has left. Hibernate turns the
+ * transaction timeout into the query timeout of every statement it runs, and the running statement is cancelled if the
+ * deadline passes first.
+ */
+public class DeadlineJpaTransactionManager extends JpaTransactionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineJpaTransactionManager.class);
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return timeout;
+        }
+        if (deadline.isExpired()) {
+            throw new TransactionTimedOutException("Request deadline of " + deadline.getTimeout() + " has passed");
+        }
+        long remainingNanos = deadline.remainingNanos();
+        // Statement timeouts are whole seconds; the watchdog cancels at the exact deadline.
+        int remainingSeconds = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999));
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null
+                && TransactionSynchronizationManager.getResource(obtainEntityManagerFactory()) instanceof EntityManagerHolder holder) {
+            EntityManager entityManager = holder.getEntityManager();
+            deadline.register(transaction, () -> cancelRunningStatement(entityManager));
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline != null) {
+            deadline.unregister(transaction);
+        }
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private static void cancelRunningStatement(EntityManager entityManager) {
+        try {
+            entityManager.unwrap(SharedSessionContractImplementor.class).getJdbcCoordinator().cancelLastQuery();
+        } catch (RuntimeException ex) {
+            // The statement may have finished, or the session closed, in the meantime.
+            log.debug("Could not cancel statement: {}", ex.getMessage());
+        }
+    }
+}
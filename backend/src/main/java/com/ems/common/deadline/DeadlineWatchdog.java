@@ -0,0 +1,84 @@
+package com.ems.common.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the deadlines of requests in progress and expires them once they pass, cancelling the statements they are
+ * running. JDBC query timeouts alone only have whole-second resolution and are set when a statement starts.
+ * <p>
+ * Checks run on a thread of their own, so a long job on the shared task scheduler cannot delay them.
+ */
+@Component
+public class DeadlineWatchdog {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineWatchdog.class);
+
+    private final Set<RequestDeadline> running = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService checker;
+    private final RequestDeadlineProperties properties;
+    private final Counter expired;
+
+    public DeadlineWatchdog(RequestDeadlineProperties properties, MeterRegistry meterRegistry) {
+        this.checker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ems-deadline-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.properties = properties;
+        this.expired = Counter.builder("ems.request.deadline.expired")
+                .description("Requests still running when their deadline passed")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isEnabled()) {
+            long interval = properties.getCheckInterval().toMillis();
+            checker.scheduleWithFixedDelay(this::expireOverdue, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        checker.shutdownNow();
+    }
+
+    public RequestDeadline open(Duration timeout) {
+        RequestDeadline deadline = new RequestDeadline(timeout);
+        running.add(deadline);
+        return deadline;
+    }
+
+    public void close(RequestDeadline deadline) {
+        running.remove(deadline);
+    }
+
+    private void expireOverdue() {
+        for (RequestDeadline deadline : running) {
+            if (deadline.remainingNanos() <= 0 && running.remove(deadline)) {
+                expired.increment();
+                try {
+                    deadline.expire();
+                } catch (RuntimeException ex) {
+                    log.warn("Could not cancel work of a request past its {} deadline: {}", deadline.getTimeout(), ex.getMessage());
+                }
+            }
+        }
+    }
+}
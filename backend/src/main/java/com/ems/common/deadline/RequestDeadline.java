@@ -0,0 +1,106 @@
+package com.ems.common.deadline;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The point in time by which the current request must be answered. Bound to the request thread by
+ * {@link RequestDeadlineFilter} (and carried onto shard workers by {@code Shards}); transactions started while it is
+ * bound take the remaining time as their timeout, which Hibernate applies as the JDBC query timeout of each statement.
+ * <p>
+ * Work that can be interrupted from another thread, such as a running statement, registers a canceller;
+ * {@link DeadlineWatchdog} runs them when the deadline passes.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final Duration timeout;
+    private final long deadlineNanos;
+    private final Map<Object, Runnable> cancellers = new ConcurrentHashMap<>();
+    private volatile boolean expired;
+
+    RequestDeadline(Duration timeout) {
+        this.timeout = timeout;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(RequestDeadline deadline) {
+        CURRENT.set(deadline);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs {@code work} with no deadline bound, for bookkeeping that must still be written after the request's own
+     * work is done or has run out of time.
+     */
+    public static void withoutDeadline(Runnable work) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            work.run();
+            return;
+        }
+        CURRENT.remove();
+        try {
+            work.run();
+        } finally {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Whether a deadline is bound to this thread and has passed.
+     */
+    public static boolean currentExpired() {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null && deadline.isExpired();
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public boolean isExpired() {
+        return expired || remainingNanos() <= 0;
+    }
+
+    /**
+     * Runs {@code canceller} if the deadline passes before {@link #unregister} is called with the same key.
+     */
+    public void register(Object key, Runnable canceller) {
+        cancellers.put(key, canceller);
+        if (expired) {
+            cancel(key);
+        }
+    }
+
+    public void unregister(Object key) {
+        cancellers.remove(key);
+    }
+
+    void expire() {
+        expired = true;
+        for (Object key : cancellers.keySet()) {
+            cancel(key);
+        }
+    }
+
+    private void cancel(Object key) {
+        Runnable canceller = cancellers.remove(key);
+        if (canceller != null) {
+            canceller.run();
+        }
+    }
+}
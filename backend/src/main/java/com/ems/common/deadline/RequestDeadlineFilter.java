@@ -0,0 +1,117 @@
+package com.ems.common.deadline;
+
+import com.ems.common.config.CorrelationIdFilter;
+import com.ems.common.exception.ErrorBodies;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Gives every API request a {@link RequestDeadline}: the {@code X-Request-Timeout} header if the client sent one,
+ * else the timeout of its route. Runs after the concurrency limit, so the deadline starts once the request is admitted.
+ * <p>
+ * The change stream has no deadline: its requests stay open for as long as the client listens.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "X-Request-Timeout";
+
+    private static final String API_PREFIX = "/api/v1/";
+
+    private record CompiledRoute(String method, PathPattern pattern, Duration timeout) {
+    }
+
+    private final DeadlineWatchdog watchdog;
+    private final RequestDeadlineProperties properties;
+    private final List<CompiledRoute> routes;
+    private final ErrorBodies errorBodies = new ErrorBodies();
+
+    public RequestDeadlineFilter(DeadlineWatchdog watchdog, RequestDeadlineProperties properties) {
+        this.watchdog = watchdog;
+        this.properties = properties;
+        this.routes = properties.getRoutes().stream()
+                .map(r -> new CompiledRoute(r.getMethod(), PathPatternParser.defaultInstance.parse(r.getPath()), r.getTimeout()))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !properties.isEnabled()
+                || !uri.startsWith(API_PREFIX)
+                || uri.startsWith(API_PREFIX + "events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Duration timeout = routeTimeout(request);
+        String header = properties.isHeaderEnabled() ? request.getHeader(HEADER_NAME) : null;
+        if (header != null) {
+            Duration requested = parse(header);
+            if (requested == null || requested.isNegative() || requested.isZero()) {
+                badRequest(request, response, HEADER_NAME + " must be a positive duration such as 500ms or 5s");
+                return;
+            }
+            timeout = requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout() : requested;
+        }
+
+        RequestDeadline deadline = watchdog.open(timeout);
+        RequestDeadline.bind(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+            watchdog.close(deadline);
+        }
+    }
+
+    private Duration routeTimeout(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CompiledRoute route : routes) {
+            if ((route.method() == null || route.method().isEmpty() || route.method().equalsIgnoreCase(request.getMethod()))
+                    && route.pattern().matches(path)) {
+                return route.timeout();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+
+    private static Duration parse(String value) {
+        try {
+            return DurationStyle.detectAndParse(value.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private void badRequest(HttpServletRequest request, HttpServletResponse response, String message) throws IOException {
+        Object cid = request.getAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE);
+        byte[] body = errorBodies.render(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", message, request.getRequestURI(),
+                cid != null ? cid.toString() : null);
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ems.common.deadline;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "ems.request-deadline")
+public class RequestDeadlineProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Deadline of API requests that match none of {@link #routes}.
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Per-route deadlines; the first route whose method and path pattern match applies.
+     */
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("GET", "/api/v1/employees", Duration.ofSeconds(10)),
+            new Route("GET", "/api/v1/departments", Duration.ofSeconds(10))));
+
+    /**
+     * Let clients set their request's deadline with an {@code X-Request-Timeout} header (e.g. {@code 500ms},
+     * {@code 5s}, or plain milliseconds), up to {@link #maxTimeout}.
+     */
+    private boolean headerEnabled = true;
+
+    private Duration maxTimeout = Duration.ofSeconds(60);
+
+    /**
+     * How often running requests are checked for a passed deadline.
+     */
+    private Duration checkInterval = Duration.ofMillis(100);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public List<Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    public boolean isHeaderEnabled() {
+        return headerEnabled;
+    }
+
+    public void setHeaderEnabled(boolean headerEnabled) {
+        this.headerEnabled = headerEnabled;
+    }
+
+    public Duration getMaxTimeout() {
+        return maxTimeout;
+    }
+
+    public void setMaxTimeout(Duration maxTimeout) {
+        this.maxTimeout = maxTimeout;
+    }
+
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    public void setCheckInterval(Duration checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    public static class Route {
+
+        /**
+         * HTTP method, or empty for any.
+         */
+        private String method;
+
+        /**
+         * Path pattern, e.g. {@code /api/v1/analytics/**}.
+         */
+        private String path;
+
+        private Duration timeout;
+
+        public Route() {
+        }
+
+        public Route(String method, String path, Duration timeout) {
+            this.method = method;
+            this.path = path;
+            this.timeout = timeout;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+}
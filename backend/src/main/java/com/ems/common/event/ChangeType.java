@@ -0,0 +1,7 @@
+package com.ems.common.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
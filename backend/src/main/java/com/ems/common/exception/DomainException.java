@@ -0,0 +1,12 @@
+package com.ems.common.exception;
+
+/**
+ * An expected failure caused by the request, such as a missing resource or a failed login, answered with a 4xx
+ * response. These are thrown on hot paths and never logged with a stack trace, so none is captured.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
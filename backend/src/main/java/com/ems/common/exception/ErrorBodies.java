@@ -0,0 +1,97 @@
+package com.ems.common.exception;
+
+import com.ems.common.json.JsonWriters;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders error bodies without details straight to JSON bytes, as {@link ErrorResponseSerializer} would write the
+ * equivalent {@link ErrorResponse}. Everything between the timestamp and the path is the same for every error with a
+ * given status, code and message, so it is encoded once and kept; only the timestamp, path and correlation id are
+ * filled in per request.
+ */
+public final class ErrorBodies {
+
+    // Messages can carry request data (e.g. an operation index), so the number of kept templates is capped.
+    private static final int MAX_TEMPLATES = 512;
+
+    private static final byte[] OPEN = bytes("{\"timestamp\":\"");
+    private static final byte[] CORRELATION_ID = bytes(",\"correlationId\":");
+    private static final byte[] CLOSE = bytes(",\"details\":null}");
+    private static final byte[] NULL = bytes("null");
+
+    private record Key(HttpStatus status, String code, String message) {
+    }
+
+    private final Map<Key, byte[]> templates = new ConcurrentHashMap<>();
+
+    public byte[] render(HttpStatus status, String code, String message, String path, String correlationId) {
+        byte[] template = template(new Key(status, code, message));
+        byte[] quotedPath = quote(path);
+        byte[] quotedCorrelationId = quote(correlationId);
+
+        char[] timestamp = new char[JsonWriters.MAX_TIMESTAMP_LENGTH];
+        int timestampLength = JsonWriters.formatTimestamp(OffsetDateTime.now(), timestamp);
+
+        byte[] body = new byte[OPEN.length + timestampLength + template.length + quotedPath.length
+                + CORRELATION_ID.length + quotedCorrelationId.length + CLOSE.length];
+        int at = append(body, 0, OPEN);
+        for (int i = 0; i < timestampLength; i++) {
+            body[at++] = (byte) timestamp[i];
+        }
+        at = append(body, at, template);
+        at = append(body, at, quotedPath);
+        at = append(body, at, CORRELATION_ID);
+        at = append(body, at, quotedCorrelationId);
+        append(body, at, CLOSE);
+        return body;
+    }
+
+    private byte[] template(Key key) {
+        byte[] template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+        template = bytes("\",\"status\":" + key.status().value()
+                + ",\"error\":" + quoted(key.status().getReasonPhrase())
+                + ",\"code\":" + quoted(key.code())
+                + ",\"message\":" + quoted(key.message())
+                + ",\"path\":");
+        if (templates.size() < MAX_TEMPLATES) {
+            templates.putIfAbsent(key, template);
+        }
+        return template;
+    }
+
+    private static String quoted(String value) {
+        return value == null ? "null" : "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + "\"";
+    }
+
+    private static byte[] quote(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] encoded = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+        byte[] quoted = new byte[encoded.length + 2];
+        quoted[0] = '"';
+        System.arraycopy(encoded, 0, quoted, 1, encoded.length);
+        quoted[quoted.length - 1] = '"';
+        return quoted;
+    }
+
+    private static int append(byte[] target, int at, byte[] source) {
+        System.arraycopy(source, 0, target, at, source.length);
+        return at + source.length;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
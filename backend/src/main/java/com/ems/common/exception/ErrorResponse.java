@@ -1,8 +1,11 @@
 package com.ems.common.exception;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.time.OffsetDateTime;
 import java.util.List;
 
+@JsonSerialize(using = ErrorResponseSerializer.class)
 public class ErrorResponse {
 
     private OffsetDateTime timestamp;
@@ -0,0 +1,73 @@
+package com.ems.common.exception;
+
+import com.ems.common.json.JsonWriters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link ErrorResponse} and its {@link ErrorDetail}s field by field, in declaration order.
+ */
+public class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString PATH = new SerializedString("path");
+    private static final SerializedString CORRELATION_ID = new SerializedString("correlationId");
+    private static final SerializedString DETAILS = new SerializedString("details");
+    private static final SerializedString FIELD = new SerializedString("field");
+    private static final SerializedString ISSUE = new SerializedString("issue");
+
+    public ErrorResponseSerializer() {
+        super(ErrorResponse.class);
+    }
+
+    @Override
+    public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(TIMESTAMP);
+        JsonWriters.writeTimestamp(gen, value.getTimestamp(), provider);
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(value.getStatus());
+        gen.writeFieldName(ERROR);
+        JsonWriters.writeString(gen, value.getError());
+        gen.writeFieldName(CODE);
+        JsonWriters.writeString(gen, value.getCode());
+        gen.writeFieldName(MESSAGE);
+        JsonWriters.writeString(gen, value.getMessage());
+        gen.writeFieldName(PATH);
+        JsonWriters.writeString(gen, value.getPath());
+        gen.writeFieldName(CORRELATION_ID);
+        JsonWriters.writeString(gen, value.getCorrelationId());
+
+        gen.writeFieldName(DETAILS);
+        List<ErrorDetail> details = value.getDetails();
+        if (details == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(details, details.size());
+            for (ErrorDetail detail : details) {
+                if (detail == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                gen.writeStartObject(detail);
+                gen.writeFieldName(FIELD);
+                JsonWriters.writeString(gen, detail.getField());
+                gen.writeFieldName(ISSUE);
+                JsonWriters.writeString(gen, detail.getIssue());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+}
@@ -1,14 +1,19 @@
 package com.ems.common.exception;
 
 import com.ems.common.config.CorrelationIdFilter;
+import com.ems.common.deadline.RequestDeadline;
 
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.validation.FieldError;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -23,6 +28,8 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ErrorBodies errorBodies = new ErrorBodies();
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest request) {
         List<ErrorDetail> details = ex.getBindingResult().getFieldErrors().stream()
@@ -34,22 +41,37 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException ex, HttpServletRequest request) {
+        ErrorResponse body = baseError(request, HttpStatus.BAD_REQUEST, "VALIDATION_ERROR", ex.getMessage());
+        body.setDetails(ex.getDetails());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     @ExceptionHandler(NotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException ex, HttpServletRequest request) {
-        ErrorResponse body = baseError(request, HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    public ResponseEntity<byte[]> handleNotFound(NotFoundException ex, HttpServletRequest request) {
+        return templatedError(request, HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage());
     }
 
     @ExceptionHandler(ConflictException.class)
-    public ResponseEntity<ErrorResponse> handleConflict(ConflictException ex, HttpServletRequest request) {
-        ErrorResponse body = baseError(request, HttpStatus.CONFLICT, "CONFLICT", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    public ResponseEntity<byte[]> handleConflict(ConflictException ex, HttpServletRequest request) {
+        return templatedError(request, HttpStatus.CONFLICT, "CONFLICT", ex.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<byte[]> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest request) {
+        return templatedError(request, HttpStatus.PRECONDITION_FAILED, "PRECONDITION_FAILED", ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLocking(OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.info("Concurrent modification while handling request {}: {}", request.getRequestURI(), ex.getMessage());
+        return templatedError(request, HttpStatus.CONFLICT, "CONFLICT", "Resource was modified concurrently, retry the request");
     }
 
     @ExceptionHandler(UnauthorizedException.class)
-    public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException ex, HttpServletRequest request) {
-        ErrorResponse body = baseError(request, HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", ex.getMessage());
-        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
+    public ResponseEntity<byte[]> handleUnauthorized(UnauthorizedException ex, HttpServletRequest request) {
+        return templatedError(request, HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", ex.getMessage());
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
@@ -66,8 +88,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler({QueryTimeoutException.class, TransactionTimedOutException.class})
+    public ResponseEntity<byte[]> handleDeadlineExceeded(Exception ex, HttpServletRequest request) {
+        log.info("Request {} ran out of time: {}", request.getRequestURI(), ex.getMessage());
+        return deadlineExceeded(request);
+    }
+
     @ExceptionHandler(DataAccessException.class)
-    public ResponseEntity<ErrorResponse> handleDataAccess(DataAccessException ex, HttpServletRequest request) {
+    public ResponseEntity<?> handleDataAccess(DataAccessException ex, HttpServletRequest request) {
+        if (RequestDeadline.currentExpired()) {
+            // A statement cancelled at the deadline fails with whatever error the driver reports for cancellation.
+            log.info("Request {} ran out of time: {}", request.getRequestURI(), ex.getMessage());
+            return deadlineExceeded(request);
+        }
         log.error("Database error while handling request {}", request.getRequestURI(), ex);
         ErrorResponse body = baseError(request, HttpStatus.INTERNAL_SERVER_ERROR, "DATABASE_ERROR",
                 "Database error");
@@ -81,10 +114,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
 
+    private ResponseEntity<byte[]> deadlineExceeded(HttpServletRequest request) {
+        return templatedError(request, HttpStatus.GATEWAY_TIMEOUT, "DEADLINE_EXCEEDED",
+                "The request did not complete within its deadline");
+    }
+
     private ErrorDetail toErrorDetail(FieldError fe) {
         return new ErrorDetail(fe.getField(), fe.getDefaultMessage());
     }
 
+    /**
+     * The same body as {@link #baseError} without details, rendered from a cached template. Used for the expected
+     * failures that make up most error traffic (404 probes, failed logins, conflicts).
+     */
+    private ResponseEntity<byte[]> templatedError(HttpServletRequest request, HttpStatus status, String code, String message) {
+        Object cid = request.getAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE);
+        byte[] body = errorBodies.render(status, code, message, request.getRequestURI(), cid != null ? cid.toString() : null);
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     private ErrorResponse baseError(HttpServletRequest request, HttpStatus status, String code, String message) {
         ErrorResponse body = new ErrorResponse();
         body.setTimestamp(OffsetDateTime.now());
@@ -0,0 +1,21 @@
+package com.ems.common.exception;
+
+import java.util.List;
+
+public class InvalidRequestException extends DomainException {
+
+    private final List<ErrorDetail> details;
+
+    public InvalidRequestException(String message) {
+        this(message, null);
+    }
+
+    public InvalidRequestException(String message, List<ErrorDetail> details) {
+        super(message);
+        this.details = details;
+    }
+
+    public List<ErrorDetail> getDetails() {
+        return details;
+    }
+}
@@ -0,0 +1,160 @@
+package com.ems.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Value writers shared by the hand-written response serializers. Each writes exactly what Jackson's default serializer
+ * for the type writes under the application's settings, without going through reflection or an intermediate string
+ * where it can avoid one.
+ */
+public final class JsonWriters {
+
+    /**
+     * yyyy-MM-ddTHH:mm:ss, up to 9 fraction digits and an offset of at most 9 characters.
+     */
+    public static final int MAX_TIMESTAMP_LENGTH = 39;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonWriters() {
+    }
+
+    /**
+     * Pre-encoded names of an enum's constants, indexed by ordinal. Jackson writes enums by {@link Enum#name()}.
+     */
+    public static <E extends Enum<E>> SerializedString[] enumNames(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        SerializedString[] names = new SerializedString[constants.length];
+        for (E constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+        return names;
+    }
+
+    public static void writeEnum(JsonGenerator gen, Enum<?> value, SerializedString[] names) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    public static void writeString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    public static void writeNumber(JsonGenerator gen, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    public static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    public static void writeUuid(JsonGenerator gen, UUID value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        char[] buf = new char[36];
+        hex(value.getMostSignificantBits() >>> 32, 8, buf, 0);
+        buf[8] = '-';
+        hex(value.getMostSignificantBits() >>> 16, 4, buf, 9);
+        buf[13] = '-';
+        hex(value.getMostSignificantBits(), 4, buf, 14);
+        buf[18] = '-';
+        hex(value.getLeastSignificantBits() >>> 48, 4, buf, 19);
+        buf[23] = '-';
+        hex(value.getLeastSignificantBits(), 12, buf, 24);
+        gen.writeString(buf, 0, buf.length);
+    }
+
+    /**
+     * Writes {@code value} as {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} would. Settings that
+     * change how Jackson writes dates (an explicit time zone, numeric timestamps) and years outside 0000-9999 go through
+     * Jackson's own serializer.
+     */
+    public static void writeTimestamp(JsonGenerator gen, OffsetDateTime value, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999 || provider.getConfig().hasExplicitTimeZone()
+                || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, gen);
+            return;
+        }
+        char[] buf = new char[MAX_TIMESTAMP_LENGTH];
+        gen.writeString(buf, 0, formatTimestamp(value, buf));
+    }
+
+    /**
+     * Formats {@code value} into {@code buf} as {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} does
+     * and returns the number of characters written. The year must be within 0000-9999 and {@code buf} at least
+     * {@link #MAX_TIMESTAMP_LENGTH} long.
+     */
+    public static int formatTimestamp(OffsetDateTime value, char[] buf) {
+        digits(value.getYear(), 4, buf, 0);
+        buf[4] = '-';
+        digits(value.getMonthValue(), 2, buf, 5);
+        buf[7] = '-';
+        digits(value.getDayOfMonth(), 2, buf, 8);
+        buf[10] = 'T';
+        digits(value.getHour(), 2, buf, 11);
+        buf[13] = ':';
+        digits(value.getMinute(), 2, buf, 14);
+        buf[16] = ':';
+        digits(value.getSecond(), 2, buf, 17);
+        int len = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            // Shortest fraction that keeps every significant digit, as the formatter prints it.
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buf[len++] = '.';
+            digits(nano, width, buf, len);
+            len += width;
+        }
+        String offset = value.getOffset().getId();
+        offset.getChars(0, offset.length(), buf, len);
+        return len + offset.length();
+    }
+
+    private static void hex(long value, int width, char[] buf, int at) {
+        for (int i = at + width - 1; i >= at; i--) {
+            buf[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static void digits(int value, int width, char[] buf, int at) {
+        for (int i = at + width - 1; i >= at; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ems.common.limit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps the requests in flight at a limit that follows measured latency, gradient style: each window's mean latency is
+ * compared with a slow-moving long-term mean. While it stays within {@code latency-tolerance} of it the limit grows by
+ * about its square root per window, provided the limit is actually being used; once latency rises past that the limit
+ * shrinks in proportion, by at most half per window. Requests over the limit are refused instead of queued.
+ * <p>
+ * Each {@link Priority} may only fill its share of the limit, so bulk requests are refused first and critical ones last.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    // Weight of a window's mean in the long-term mean; about a hundred windows.
+    private static final double LONG_TERM_WEIGHT = 0.01;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+    private volatile long windowEndNanos;
+
+    // Guarded by updateLock.
+    private double estimatedLimit;
+    private double longTermLatencyNanos = Double.NaN;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.estimatedLimit = clamp(properties.getInitialLimit());
+        this.limit = (int) estimatedLimit;
+        this.windowEndNanos = System.nanoTime() + properties.getWindow().toNanos();
+        Gauge.builder("ems.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Requests allowed in flight")
+                .register(meterRegistry);
+        Gauge.builder("ems.concurrency.in_flight", inFlight, AtomicInteger::get)
+                .description("Requests in flight under the concurrency limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Takes a slot for a request of the given priority, or returns {@code false} if its share of the limit is full.
+     * A successful call must be paired with {@link #release}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Frees the slot and records how long the request took.
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        windowSamples.increment();
+
+        long now = System.nanoTime();
+        if (now - windowEndNanos >= 0 && windowSamples.sum() >= properties.getMinWindowSamples() && updateLock.tryLock()) {
+            try {
+                if (now - windowEndNanos >= 0) {
+                    windowEndNanos = now + properties.getWindow().toNanos();
+                    update();
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update() {
+        long samples = windowSamples.sumThenReset();
+        long latencyNanos = windowLatencyNanos.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples == 0) {
+            return;
+        }
+        double shortTerm = (double) latencyNanos / samples;
+
+        if (Double.isNaN(longTermLatencyNanos)) {
+            longTermLatencyNanos = shortTerm;
+        } else {
+            longTermLatencyNanos += (shortTerm - longTermLatencyNanos) * LONG_TERM_WEIGHT;
+            // After a long overload the long-term mean has crept up; let it come back down quickly once latency does.
+            if (longTermLatencyNanos > shortTerm * 2) {
+                longTermLatencyNanos *= 0.95;
+            }
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getLatencyTolerance() * longTermLatencyNanos / shortTerm));
+        if (gradient >= 1.0 && maxInFlight < estimatedLimit / 2) {
+            // Not limited by us; latency says nothing about whether more would fit.
+            return;
+        }
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        double smoothing = properties.getSmoothing();
+        estimatedLimit = clamp(estimatedLimit * (1 - smoothing) + target * smoothing);
+
+        int previous = limit;
+        limit = (int) estimatedLimit;
+        if (limit != previous) {
+            log.debug("Concurrency limit {} -> {} (latency {} µs, long-term {} µs)", previous, limit,
+                    (long) shortTerm / 1000, (long) longTermLatencyNanos / 1000);
+        }
+    }
+
+    private int allowed(Priority priority) {
+        return switch (priority) {
+            case CRITICAL -> limit;
+            case NORMAL -> Math.max(1, (int) (limit * properties.getNormalShare()));
+            case BULK -> Math.max(1, (int) (limit * properties.getBulkShare()));
+        };
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), value));
+    }
+}
@@ -0,0 +1,146 @@
+package com.ems.common.limit;
+
+import com.ems.common.config.CorrelationIdFilter;
+import com.ems.common.exception.ErrorBodies;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Admits API requests through {@link AdaptiveConcurrencyLimiter} and answers the rest with 503 and
+ * {@code Retry-After} straight away, rather than letting them wait for a worker behind requests that are already slow.
+ * Runs right after {@link CorrelationIdFilter}, before anything reads the request body.
+ * <p>
+ * The change stream is not limited: its requests stay open for as long as the client listens.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/v1/";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+    private final ErrorBodies errorBodies = new ErrorBodies();
+    private final Map<Priority, Counter> accepted = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ConcurrencyLimitProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.properties = properties;
+        for (Priority priority : Priority.values()) {
+            accepted.put(priority, counter(meterRegistry, priority, "accepted"));
+            rejected.put(priority, counter(meterRegistry, priority, "rejected"));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !properties.isEnabled()
+                || !uri.startsWith(API_PREFIX)
+                || uri.startsWith(API_PREFIX + "events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Priority priority = priority(request);
+        if (!limiter.tryAcquire(priority)) {
+            rejected.get(priority).increment();
+            reject(request, response);
+            return;
+        }
+        accepted.get(priority).increment();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private Priority priority(HttpServletRequest request) {
+        String[] segments = request.getRequestURI().substring(API_PREFIX.length()).split("/");
+        String resource = segments[0];
+        if (resource.equals("auth")) {
+            return Priority.CRITICAL;
+        }
+        if (resource.equals("analytics") || resource.endsWith(":batch") || resource.endsWith(":batchGet")) {
+            return Priority.BULK;
+        }
+        boolean collection = resource.equals("employees") || resource.equals("departments");
+        if (!collection || !HttpMethod.GET.matches(request.getMethod())) {
+            return Priority.NORMAL;
+        }
+        if (segments.length == 1) {
+            return isLargePage(request.getParameter("size")) ? Priority.BULK : Priority.NORMAL;
+        }
+        if (segments.length == 2) {
+            if (segments[1].equals("changes")) {
+                return Priority.BULK;
+            }
+            if (isUuid(segments[1])) {
+                return Priority.CRITICAL;
+            }
+        }
+        return Priority.NORMAL;
+    }
+
+    private boolean isLargePage(String size) {
+        if (size == null) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(size.trim()) > properties.getLargeListSize();
+        } catch (NumberFormatException ex) {
+            // Left for the controller to reject.
+            return false;
+        }
+    }
+
+    private static boolean isUuid(String segment) {
+        return segment.length() == 36 && segment.charAt(8) == '-' && segment.charAt(13) == '-'
+                && segment.charAt(18) == '-' && segment.charAt(23) == '-';
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Object cid = request.getAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE);
+        byte[] body = errorBodies.render(HttpStatus.SERVICE_UNAVAILABLE, "OVERLOADED",
+                "Too many requests in progress, retry later", request.getRequestURI(), cid != null ? cid.toString() : null);
+        long retryAfterMillis = properties.getRetryAfter().toMillis();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, Priority priority, String outcome) {
+        return Counter.builder("ems.concurrency.requests")
+                .description("API requests by priority and whether the concurrency limit admitted them")
+                .tag("priority", priority.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,154 @@
+package com.ems.common.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ems.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 40;
+
+    private int minLimit = 8;
+
+    /**
+     * Upper bound for the limit; no higher than the servlet container's worker threads, or requests queue in front of
+     * the limiter again.
+     */
+    private int maxLimit = 200;
+
+    /**
+     * How far the recent mean latency may rise above the long-term mean before the limit is reduced.
+     */
+    private double latencyTolerance = 2.0;
+
+    /**
+     * Weight of each new limit estimate; lower values react more slowly but ride out short latency spikes.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Latency samples are aggregated over at least this long, and {@link #minWindowSamples}, per limit update.
+     */
+    private Duration window = Duration.ofMillis(250);
+
+    private int minWindowSamples = 20;
+
+    /**
+     * Fraction of the limit {@link Priority#NORMAL} requests may occupy; the rest is kept for critical requests.
+     */
+    private double normalShare = 0.9;
+
+    /**
+     * Fraction of the limit {@link Priority#BULK} requests may occupy.
+     */
+    private double bulkShare = 0.5;
+
+    /**
+     * List requests with a larger {@code size} are treated as {@link Priority#BULK}.
+     */
+    private int largeListSize = 100;
+
+    /**
+     * Sent as {@code Retry-After} on rejected requests.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMinWindowSamples() {
+        return minWindowSamples;
+    }
+
+    public void setMinWindowSamples(int minWindowSamples) {
+        this.minWindowSamples = minWindowSamples;
+    }
+
+    public double getNormalShare() {
+        return normalShare;
+    }
+
+    public void setNormalShare(double normalShare) {
+        this.normalShare = normalShare;
+    }
+
+    public double getBulkShare() {
+        return bulkShare;
+    }
+
+    public void setBulkShare(double bulkShare) {
+        this.bulkShare = bulkShare;
+    }
+
+    public int getLargeListSize() {
+        return largeListSize;
+    }
+
+    public void setLargeListSize(int largeListSize) {
+        this.largeListSize = largeListSize;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+}
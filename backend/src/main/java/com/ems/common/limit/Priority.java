@@ -0,0 +1,20 @@
+package com.ems.common.limit;
+
+/**
+ * How much of the concurrency limit a request may occupy. Lower priorities are turned away while the limit still has
+ * room, so cheap, latency-sensitive requests keep getting through when the service is saturated.
+ */
+public enum Priority {
+
+    /**
+     * Authentication and single-entity reads; may use the whole limit.
+     */
+    CRITICAL,
+
+    NORMAL,
+
+    /**
+     * Large lists, delta syncs, analytics and batch calls.
+     */
+    BULK
+}
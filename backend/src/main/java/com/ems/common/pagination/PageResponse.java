@@ -1,7 +1,10 @@
 package com.ems.common.pagination;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.util.List;
 
+@JsonSerialize(using = PageResponseSerializer.class)
 public class PageResponse<T> {
 
     private List<T> items;
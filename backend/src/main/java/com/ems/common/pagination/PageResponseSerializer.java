@@ -0,0 +1,76 @@
+package com.ems.common.pagination;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link PageResponse} and its {@link PageMeta} directly. Items go through the serializer registered for their
+ * class, looked up once per run of items of the same class.
+ */
+@SuppressWarnings("rawtypes")
+public class PageResponseSerializer extends StdSerializer<PageResponse> {
+
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString META = new SerializedString("meta");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+
+    public PageResponseSerializer() {
+        super(PageResponse.class);
+    }
+
+    @Override
+    public void serialize(PageResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ITEMS);
+        writeItems(value.getItems(), gen, provider);
+
+        gen.writeFieldName(META);
+        PageMeta meta = value.getMeta();
+        if (meta == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject(meta);
+            gen.writeFieldName(PAGE);
+            gen.writeNumber(meta.getPage());
+            gen.writeFieldName(SIZE);
+            gen.writeNumber(meta.getSize());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(meta.getTotalElements());
+            gen.writeFieldName(TOTAL_PAGES);
+            gen.writeNumber(meta.getTotalPages());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeItems(List<?> items, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (items == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(items, items.size());
+        Class<?> itemClass = null;
+        JsonSerializer<Object> itemSerializer = null;
+        for (Object item : items) {
+            if (item == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (item.getClass() != itemClass) {
+                itemClass = item.getClass();
+                itemSerializer = provider.findValueSerializer(itemClass);
+            }
+            itemSerializer.serialize(item, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+}
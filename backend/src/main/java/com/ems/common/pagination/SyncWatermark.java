@@ -0,0 +1,96 @@
+package com.ems.common.pagination;
+
+import com.ems.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Place of a delta-sync client in the employee changes feed, handed out as an opaque token. The feed follows the
+ * change stream, whose positions are assigned in commit order, so a change that commits late still lands after the
+ * watermark of a client that has already moved on.
+ * <p>
+ * A first sync pages through every employee in id order before following the stream: while it runs, {@code afterId}
+ * is the last employee returned and {@code position} the stream position it continues from once it is done.
+ */
+public final class SyncWatermark {
+
+    /** Where a client that has never synced starts; the full pass begins at the current end of the stream. */
+    public static final SyncWatermark ORIGIN = new SyncWatermark(-1, true, null);
+
+    private static final char SEPARATOR = '|';
+    private static final String FULL_SYNC = "F";
+    private static final String CHANGES = "C";
+
+    private final long position;
+    private final boolean fullSync;
+    private final UUID afterId;
+
+    private SyncWatermark(long position, boolean fullSync, UUID afterId) {
+        this.position = position;
+        this.fullSync = fullSync;
+        this.afterId = afterId;
+    }
+
+    /**
+     * A full pass that has returned every employee up to {@code afterId} ({@code null} before the first page) and
+     * continues with the changes after {@code position}.
+     */
+    public static SyncWatermark fullSync(long position, UUID afterId) {
+        return new SyncWatermark(position, true, afterId);
+    }
+
+    /**
+     * Following the change stream after {@code position}.
+     */
+    public static SyncWatermark changesAfter(long position) {
+        return new SyncWatermark(position, false, null);
+    }
+
+    public boolean isOrigin() {
+        return position < 0;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public boolean isFullSync() {
+        return fullSync;
+    }
+
+    public UUID afterId() {
+        return afterId;
+    }
+
+    public String encode() {
+        String raw = fullSync
+                ? FULL_SYNC + SEPARATOR + position + SEPARATOR + (afterId != null ? afterId : "")
+                : CHANGES + SEPARATOR + position;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncWatermark decode(String token) {
+        if (token == null || token.isBlank()) {
+            return ORIGIN;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, -1);
+            long position = Long.parseLong(parts[1]);
+            if (position < 0) {
+                throw new InvalidRequestException("Invalid watermark");
+            }
+            if (parts.length == 2 && CHANGES.equals(parts[0])) {
+                return changesAfter(position);
+            }
+            if (parts.length == 3 && FULL_SYNC.equals(parts[0])) {
+                return fullSync(position, parts[2].isEmpty() ? null : UUID.fromString(parts[2]));
+            }
+            throw new InvalidRequestException("Invalid watermark");
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new InvalidRequestException("Invalid watermark");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ems.common.patch;
+
+import com.ems.common.exception.ErrorDetail;
+import com.ems.common.exception.InvalidRequestException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7396) to a flat request object. Only the members present in the patch are
+ * changed and validated; an explicit {@code null} clears the field.
+ */
+@Component
+public class JsonMergePatcher {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public JsonMergePatcher(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public <T> T apply(JsonNode patch, T target) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException("Merge patch must be a JSON object");
+        }
+
+        try {
+            objectMapper.readerForUpdating(target)
+                    .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(patch);
+        } catch (UnrecognizedPropertyException ex) {
+            throw new InvalidRequestException("Validation failed", List.of(new ErrorDetail(ex.getPropertyName(), "unknown field")));
+        } catch (JsonMappingException ex) {
+            throw new InvalidRequestException("Validation failed", List.of(new ErrorDetail(fieldOf(ex), "invalid value")));
+        } catch (IOException ex) {
+            throw new InvalidRequestException("Malformed merge patch");
+        }
+
+        List<ErrorDetail> details = new ArrayList<>();
+        for (Iterator<String> it = patch.fieldNames(); it.hasNext(); ) {
+            String field = it.next();
+            for (ConstraintViolation<T> violation : validator.validateProperty(target, field)) {
+                details.add(new ErrorDetail(field, violation.getMessage()));
+            }
+        }
+        if (!details.isEmpty()) {
+            throw new InvalidRequestException("Validation failed", details);
+        }
+        return target;
+    }
+
+    private static String fieldOf(JsonMappingException ex) {
+        return ex.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .collect(Collectors.joining("."));
+    }
+}
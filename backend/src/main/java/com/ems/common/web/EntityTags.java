@@ -0,0 +1,38 @@
+package com.ems.common.web;
+
+import com.ems.common.exception.PreconditionFailedException;
+
+/**
+ * Strong entity tags derived from an entity's {@code @Version} column.
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Returns the version an {@code If-Match} header requires, or {@code null} when the header is absent or {@code *}.
+     * Weak or malformed tags can never match and fail the precondition.
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version");
+    }
+}
@@ -0,0 +1,34 @@
+package com.ems.department.controller;
+
+import com.ems.common.batch.BatchGetRequest;
+import com.ems.common.batch.BatchGetResponse;
+import com.ems.department.dto.DepartmentResponse;
+import com.ems.department.service.DepartmentService;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Collection-level custom methods ({@code /departments:<verb>}), kept apart from {@link DepartmentController} for the
+ * same path-joining reason as the employee equivalent.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class DepartmentBatchController {
+
+    private final DepartmentService departmentService;
+
+    public DepartmentBatchController(DepartmentService departmentService) {
+        this.departmentService = departmentService;
+    }
+
+    @PostMapping("/departments:batchGet")
+    public ResponseEntity<BatchGetResponse<DepartmentResponse>> batchGet(@Valid @RequestBody BatchGetRequest request) {
+        return ResponseEntity.ok(departmentService.batchGet(request.getIds()));
+    }
+}
@@ -1,34 +1,48 @@
 package com.ems.department.controller;
 
 import com.ems.common.pagination.PageResponse;
+import com.ems.common.patch.JsonMergePatcher;
+import com.ems.common.web.EntityTags;
 import com.ems.department.dto.DepartmentCreateRequest;
+import com.ems.department.dto.DepartmentMergeRequest;
+import com.ems.department.dto.DepartmentReassignmentResponse;
 import com.ems.department.dto.DepartmentResponse;
 import com.ems.department.dto.DepartmentUpdateRequest;
 import com.ems.department.service.DepartmentService;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/departments")
 public class DepartmentController {
 
+    private static final String INCLUDE_HEADCOUNT = "headcount";
+
     private final DepartmentService departmentService;
 
     public DepartmentController(DepartmentService departmentService) {
@@ -44,28 +58,67 @@ public class DepartmentController {
     public ResponseEntity<PageResponse<DepartmentResponse>> list(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(required = false) String sort
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) List<String> include,
+            WebRequest webRequest
     ) {
         Pageable pageable = toPageable(page, size, sort);
-        return ResponseEntity.ok(departmentService.list(pageable));
+        if (include != null && include.contains(INCLUDE_HEADCOUNT)) {
+            // Headcounts change with employee writes, which the snapshot tag does not track.
+            return ResponseEntity.ok(departmentService.list(pageable, true));
+        }
+
+        String etag = etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(departmentService.list(pageable, false));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentResponse> getById(@PathVariable UUID id) {
-        return ResponseEntity.ok(departmentService.getById(id));
+    public ResponseEntity<DepartmentResponse> getById(@PathVariable UUID id, WebRequest webRequest) {
+        DepartmentResponse department = departmentService.getById(id);
+        String etag = EntityTags.of(department.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(department);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<DepartmentResponse> update(@PathVariable UUID id, @Valid @RequestBody DepartmentUpdateRequest request) {
-        return ResponseEntity.ok(departmentService.update(id, request));
+    public ResponseEntity<DepartmentResponse> update(@PathVariable UUID id, @Valid @RequestBody DepartmentUpdateRequest request,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        DepartmentResponse updated = departmentService.update(id, request, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<DepartmentResponse> patch(@PathVariable UUID id, @RequestBody JsonNode mergePatch,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        DepartmentResponse patched = departmentService.patch(id, mergePatch, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable UUID id) {
+    public ResponseEntity<DepartmentReassignmentResponse> delete(@PathVariable UUID id,
+                                                                 @RequestParam(required = false) UUID reassignTo) {
+        if (reassignTo != null) {
+            return ResponseEntity.ok(departmentService.deleteAndReassign(id, reassignTo));
+        }
         departmentService.delete(id);
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<DepartmentReassignmentResponse> merge(@PathVariable UUID id,
+                                                                @Valid @RequestBody DepartmentMergeRequest request) {
+        return ResponseEntity.ok(departmentService.deleteAndReassign(id, request.getTargetDepartmentId()));
+    }
+
+    private String etag() {
+        return "\"" + departmentService.snapshotTag() + "\"";
+    }
+
     private Pageable toPageable(int page, int size, String sort) {
         if (sort == null || sort.isBlank()) {
             return PageRequest.of(page, size);
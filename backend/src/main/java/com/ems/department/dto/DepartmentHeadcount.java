@@ -0,0 +1,31 @@
+package com.ems.department.dto;
+
+public class DepartmentHeadcount {
+
+    private long active;
+    private long inactive;
+
+    public DepartmentHeadcount() {
+    }
+
+    public DepartmentHeadcount(long active, long inactive) {
+        this.active = active;
+        this.inactive = inactive;
+    }
+
+    public long getActive() {
+        return active;
+    }
+
+    public void setActive(long active) {
+        this.active = active;
+    }
+
+    public long getInactive() {
+        return inactive;
+    }
+
+    public void setInactive(long inactive) {
+        this.inactive = inactive;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ems.department.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public class DepartmentMergeRequest {
+
+    @NotNull
+    private UUID targetDepartmentId;
+
+    public UUID getTargetDepartmentId() {
+        return targetDepartmentId;
+    }
+
+    public void setTargetDepartmentId(UUID targetDepartmentId) {
+        this.targetDepartmentId = targetDepartmentId;
+    }
+}
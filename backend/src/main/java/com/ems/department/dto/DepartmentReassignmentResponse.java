@@ -0,0 +1,43 @@
+package com.ems.department.dto;
+
+import java.util.UUID;
+
+public class DepartmentReassignmentResponse {
+
+    private UUID sourceDepartmentId;
+    private UUID targetDepartmentId;
+    private long movedEmployees;
+
+    public DepartmentReassignmentResponse() {
+    }
+
+    public DepartmentReassignmentResponse(UUID sourceDepartmentId, UUID targetDepartmentId, long movedEmployees) {
+        this.sourceDepartmentId = sourceDepartmentId;
+        this.targetDepartmentId = targetDepartmentId;
+        this.movedEmployees = movedEmployees;
+    }
+
+    public UUID getSourceDepartmentId() {
+        return sourceDepartmentId;
+    }
+
+    public void setSourceDepartmentId(UUID sourceDepartmentId) {
+        this.sourceDepartmentId = sourceDepartmentId;
+    }
+
+    public UUID getTargetDepartmentId() {
+        return targetDepartmentId;
+    }
+
+    public void setTargetDepartmentId(UUID targetDepartmentId) {
+        this.targetDepartmentId = targetDepartmentId;
+    }
+
+    public long getMovedEmployees() {
+        return movedEmployees;
+    }
+
+    public void setMovedEmployees(long movedEmployees) {
+        this.movedEmployees = movedEmployees;
+    }
+}
@@ -1,8 +1,12 @@
 package com.ems.department.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonSerialize(using = DepartmentResponseSerializer.class)
 public class DepartmentResponse {
 
     private UUID id;
@@ -10,6 +14,10 @@ public class DepartmentResponse {
     private String description;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
+    private Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private DepartmentHeadcount headcount;
 
     public UUID getId() {
         return id;
@@ -50,4 +58,20 @@ public class DepartmentResponse {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public DepartmentHeadcount getHeadcount() {
+        return headcount;
+    }
+
+    public void setHeadcount(DepartmentHeadcount headcount) {
+        this.headcount = headcount;
+    }
 }
@@ -0,0 +1,59 @@
+package com.ems.department.dto;
+
+import com.ems.common.json.JsonWriters;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link DepartmentResponse} field by field, in declaration order, as the bean serializer did.
+ */
+public class DepartmentResponseSerializer extends StdSerializer<DepartmentResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString HEADCOUNT = new SerializedString("headcount");
+    private static final SerializedString ACTIVE = new SerializedString("active");
+    private static final SerializedString INACTIVE = new SerializedString("inactive");
+
+    public DepartmentResponseSerializer() {
+        super(DepartmentResponse.class);
+    }
+
+    @Override
+    public void serialize(DepartmentResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonWriters.writeUuid(gen, value.getId());
+        gen.writeFieldName(NAME);
+        JsonWriters.writeString(gen, value.getName());
+        gen.writeFieldName(DESCRIPTION);
+        JsonWriters.writeString(gen, value.getDescription());
+        gen.writeFieldName(CREATED_AT);
+        JsonWriters.writeTimestamp(gen, value.getCreatedAt(), provider);
+        gen.writeFieldName(UPDATED_AT);
+        JsonWriters.writeTimestamp(gen, value.getUpdatedAt(), provider);
+        gen.writeFieldName(VERSION);
+        JsonWriters.writeNumber(gen, value.getVersion());
+
+        DepartmentHeadcount headcount = value.getHeadcount();
+        if (headcount != null) {
+            gen.writeFieldName(HEADCOUNT);
+            gen.writeStartObject(headcount);
+            gen.writeFieldName(ACTIVE);
+            gen.writeNumber(headcount.getActive());
+            gen.writeFieldName(INACTIVE);
+            gen.writeNumber(headcount.getInactive());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
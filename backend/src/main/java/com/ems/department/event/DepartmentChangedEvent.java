@@ -0,0 +1,35 @@
+package com.ems.department.event;
+
+import com.ems.common.event.ChangeType;
+import com.ems.department.dto.DepartmentResponse;
+
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction whenever a department is created, updated or deleted.
+ * {@code department} holds the state after the change and is {@code null} for deletions.
+ */
+public class DepartmentChangedEvent {
+
+    private final UUID departmentId;
+    private final ChangeType type;
+    private final DepartmentResponse department;
+
+    public DepartmentChangedEvent(UUID departmentId, ChangeType type, DepartmentResponse department) {
+        this.departmentId = departmentId;
+        this.type = type;
+        this.department = department;
+    }
+
+    public UUID getDepartmentId() {
+        return departmentId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public DepartmentResponse getDepartment() {
+        return department;
+    }
+}
@@ -1,6 +1,7 @@
 package com.ems.department.mapper;
 
 import com.ems.department.dto.DepartmentCreateRequest;
+import com.ems.department.dto.DepartmentHeadcount;
 import com.ems.department.dto.DepartmentResponse;
 import com.ems.department.dto.DepartmentUpdateRequest;
 import com.ems.department.entity.Department;
@@ -14,6 +15,19 @@ public class DepartmentMapper {
         dto.setDescription(entity.getDescription());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersion(entity.getVersion());
+        return dto;
+    }
+
+    public DepartmentResponse withHeadcount(DepartmentResponse source, DepartmentHeadcount headcount) {
+        DepartmentResponse dto = new DepartmentResponse();
+        dto.setId(source.getId());
+        dto.setName(source.getName());
+        dto.setDescription(source.getDescription());
+        dto.setCreatedAt(source.getCreatedAt());
+        dto.setUpdatedAt(source.getUpdatedAt());
+        dto.setVersion(source.getVersion());
+        dto.setHeadcount(headcount);
         return dto;
     }
 
@@ -24,6 +38,13 @@ public class DepartmentMapper {
         return d;
     }
 
+    public DepartmentUpdateRequest toUpdateRequest(Department entity) {
+        DepartmentUpdateRequest req = new DepartmentUpdateRequest();
+        req.setName(entity.getName());
+        req.setDescription(entity.getDescription());
+        return req;
+    }
+
     public void applyUpdate(Department target, DepartmentUpdateRequest req) {
         target.setName(req.getName());
         target.setDescription(req.getDescription());
@@ -3,7 +3,11 @@ package com.ems.department.repository;
 import com.ems.department.entity.Department;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 public interface DepartmentRepository extends JpaRepository<Department, UUID> {
@@ -11,4 +15,10 @@ public interface DepartmentRepository extends JpaRepository<Department, UUID> {
     boolean existsByNameIgnoreCase(String name);
 
     boolean existsByNameIgnoreCaseAndIdNot(String name, UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Department d set d.name = :#{#changes.name}, d.description = :#{#changes.description}, "
+            + "d.updatedAt = :updatedAt, d.version = d.version + 1 where d.id = :id and d.version = :version")
+    int updateIfVersionMatches(@Param("id") UUID id, @Param("version") long version, @Param("changes") Department changes,
+                               @Param("updatedAt") OffsetDateTime updatedAt);
 }
@@ -0,0 +1,161 @@
+package com.ems.department.service;
+
+import com.ems.department.dto.DepartmentResponse;
+import com.ems.department.event.DepartmentChangedEvent;
+import com.ems.department.mapper.DepartmentMapper;
+import com.ems.department.repository.DepartmentRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable in-memory copy of the departments table. Readers take the current {@link Snapshot} without locking;
+ * committed writes build a new snapshot (copy-on-write) and swap it in. A periodic full reload picks up changes made
+ * by other instances.
+ * <p>
+ * The {@link DepartmentResponse} objects in a snapshot are shared between requests and must not be mutated.
+ */
+@Component
+public class DepartmentDirectory {
+
+    private static final Comparator<DepartmentResponse> NATURAL_ORDER = Comparator
+            .comparing(DepartmentResponse::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(DepartmentResponse::getId);
+
+    private final DepartmentRepository departmentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final Duration refreshInterval;
+    private final DepartmentMapper departmentMapper = new DepartmentMapper();
+
+    private final long epoch = ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+    private final Object writeLock = new Object();
+    private long nextVersion = 1;
+    private volatile Snapshot current;
+
+    public DepartmentDirectory(DepartmentRepository departmentRepository, PlatformTransactionManager transactionManager,
+                               TaskScheduler taskScheduler,
+                               @Value("${ems.departments.directory.refresh-interval:30s}") Duration refreshInterval) {
+        this.departmentRepository = departmentRepository;
+        // Deliberately not read-only: with replica routing enabled the directory must load from the primary.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot snapshot = current;
+        return snapshot != null ? snapshot : reload();
+    }
+
+    public Snapshot reload() {
+        synchronized (writeLock) {
+            List<DepartmentResponse> all = transactionTemplate.execute(status -> departmentRepository.findAll().stream()
+                    .map(departmentMapper::toResponse)
+                    .toList());
+            Map<UUID, DepartmentResponse> byId = new HashMap<>();
+            all.forEach(d -> byId.put(d.getId(), d));
+            Snapshot base = current;
+            if (base != null && base.sameContent(byId)) {
+                return base;
+            }
+            return publish(byId);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        synchronized (writeLock) {
+            Snapshot base = current;
+            if (base == null) {
+                return;
+            }
+            Map<UUID, DepartmentResponse> byId = new HashMap<>(base.byId);
+            if (event.getDepartment() == null) {
+                byId.remove(event.getDepartmentId());
+            } else {
+                byId.put(event.getDepartmentId(), event.getDepartment());
+            }
+            publish(byId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        taskScheduler.scheduleWithFixedDelay(this::reload, refreshInterval);
+    }
+
+    private Snapshot publish(Map<UUID, DepartmentResponse> byId) {
+        List<DepartmentResponse> ordered = byId.values().stream().sorted(NATURAL_ORDER).toList();
+        Snapshot snapshot = new Snapshot(epoch, nextVersion++, Map.copyOf(byId), ordered);
+        current = snapshot;
+        return snapshot;
+    }
+
+    public static final class Snapshot {
+
+        private final long epoch;
+        private final long version;
+        private final Map<UUID, DepartmentResponse> byId;
+        private final List<DepartmentResponse> all;
+
+        Snapshot(long epoch, long version, Map<UUID, DepartmentResponse> byId, List<DepartmentResponse> all) {
+            this.epoch = epoch;
+            this.version = version;
+            this.byId = byId;
+            this.all = all;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        /**
+         * Entity tag for this snapshot. Includes a per-instance epoch so tags from different instances never collide.
+         */
+        public String tag() {
+            return Long.toString(epoch, 36) + "-" + version;
+        }
+
+        public DepartmentResponse get(UUID id) {
+            return byId.get(id);
+        }
+
+        public List<DepartmentResponse> all() {
+            return all;
+        }
+
+        boolean sameContent(Map<UUID, DepartmentResponse> other) {
+            if (other.size() != byId.size()) {
+                return false;
+            }
+            for (DepartmentResponse candidate : other.values()) {
+                DepartmentResponse existing = byId.get(candidate.getId());
+                if (existing == null || !sameInstant(existing.getUpdatedAt(), candidate.getUpdatedAt())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameInstant(OffsetDateTime a, OffsetDateTime b) {
+            return a == null ? b == null : b != null && a.isEqual(b);
+        }
+    }
+}
@@ -1,23 +1,36 @@
 package com.ems.department.service;
 
+import com.ems.common.batch.BatchGetResponse;
 import com.ems.common.pagination.PageResponse;
 import com.ems.department.dto.DepartmentCreateRequest;
+import com.ems.department.dto.DepartmentReassignmentResponse;
 import com.ems.department.dto.DepartmentResponse;
 import com.ems.department.dto.DepartmentUpdateRequest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface DepartmentService {
 
     DepartmentResponse create(DepartmentCreateRequest request);
 
-    PageResponse<DepartmentResponse> list(Pageable pageable);
+    PageResponse<DepartmentResponse> list(Pageable pageable, boolean includeHeadcount);
 
     DepartmentResponse getById(UUID id);
 
-    DepartmentResponse update(UUID id, DepartmentUpdateRequest request);
+    BatchGetResponse<DepartmentResponse> batchGet(List<UUID> ids);
+
+    String snapshotTag();
+
+    DepartmentResponse update(UUID id, DepartmentUpdateRequest request, Long expectedVersion);
+
+    DepartmentResponse patch(UUID id, JsonNode mergePatch, Long expectedVersion);
 
     void delete(UUID id);
+
+    DepartmentReassignmentResponse deleteAndReassign(UUID id, UUID targetDepartmentId);
 }
@@ -1,32 +1,99 @@
 package com.ems.department.service;
 
+import com.ems.common.batch.BatchGetResponse;
+import com.ems.common.concurrent.SingleFlight;
+import com.ems.common.datasource.ReadYourWritesTracker;
+import com.ems.common.datasource.Shards;
+import com.ems.common.event.ChangeType;
 import com.ems.common.exception.ConflictException;
 import com.ems.common.exception.NotFoundException;
+import com.ems.common.exception.PreconditionFailedException;
 import com.ems.common.pagination.PageMeta;
 import com.ems.common.pagination.PageResponse;
+import com.ems.common.patch.JsonMergePatcher;
 import com.ems.department.dto.DepartmentCreateRequest;
+import com.ems.department.dto.DepartmentHeadcount;
+import com.ems.department.dto.DepartmentReassignmentResponse;
 import com.ems.department.dto.DepartmentResponse;
 import com.ems.department.dto.DepartmentUpdateRequest;
 import com.ems.department.entity.Department;
+import com.ems.department.event.DepartmentChangedEvent;
 import com.ems.department.mapper.DepartmentMapper;
 import com.ems.department.repository.DepartmentRepository;
+import com.ems.employee.entity.EmployeeStatus;
+import com.ems.employee.event.EmployeesReassignedEvent;
+import com.ems.employee.repository.DepartmentStatusCount;
+import com.ems.employee.repository.EmployeeRepository;
 
-import org.springframework.data.domain.Page;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Service
 @Transactional
 public class DepartmentServiceImpl implements DepartmentService {
 
+    // Callers held on the primary by read-your-writes must not share a replica read, and vice versa.
+    private record HeadcountListKey(Pageable pageable, boolean primary) {
+    }
+
+    private static final Map<String, Comparator<DepartmentResponse>> SORTABLE = Map.of(
+            "id", Comparator.comparing(DepartmentResponse::getId),
+            "name", nullsLast(DepartmentResponse::getName, String.CASE_INSENSITIVE_ORDER),
+            "description", nullsLast(DepartmentResponse::getDescription, String.CASE_INSENSITIVE_ORDER),
+            "createdAt", nullsLast(DepartmentResponse::getCreatedAt, Comparator.naturalOrder()),
+            "updatedAt", nullsLast(DepartmentResponse::getUpdatedAt, Comparator.naturalOrder())
+    );
+
     private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentDirectory departmentDirectory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMergePatcher mergePatcher;
+    private final Shards shards;
+    private final ReadYourWritesTracker readYourWrites;
+    private final int reassignChunkSize;
+    private final SingleFlight<HeadcountListKey, PageResponse<DepartmentResponse>> headcountListFlight;
     private final DepartmentMapper departmentMapper = new DepartmentMapper();
 
-    public DepartmentServiceImpl(DepartmentRepository departmentRepository) {
+    public DepartmentServiceImpl(DepartmentRepository departmentRepository, EmployeeRepository employeeRepository,
+                                 DepartmentDirectory departmentDirectory, ApplicationEventPublisher eventPublisher,
+                                 JsonMergePatcher mergePatcher, Shards shards,
+                                 ObjectProvider<ReadYourWritesTracker> readYourWrites, MeterRegistry meterRegistry,
+                                 @Value("${ems.departments.reassign-chunk-size:1000}") int reassignChunkSize,
+                                 @Value("${ems.coalescing.timeout:2s}") Duration coalescingTimeout) {
         this.departmentRepository = departmentRepository;
+        this.employeeRepository = employeeRepository;
+        this.departmentDirectory = departmentDirectory;
+        this.eventPublisher = eventPublisher;
+        this.mergePatcher = mergePatcher;
+        this.shards = shards;
+        this.readYourWrites = readYourWrites.getIfAvailable();
+        this.reassignChunkSize = reassignChunkSize;
+        this.headcountListFlight = new SingleFlight<>("departments.list", coalescingTimeout, meterRegistry);
     }
 
     @Override
@@ -37,29 +104,77 @@ public class DepartmentServiceImpl implements DepartmentService {
 
         Department entity = departmentMapper.toNewEntity(request);
         Department saved = departmentRepository.save(entity);
-        return departmentMapper.toResponse(saved);
+        DepartmentResponse response = departmentMapper.toResponse(saved);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(saved.getId(), ChangeType.CREATED, departmentMapper.toResponse(saved)));
+        return response;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public PageResponse<DepartmentResponse> list(Pageable pageable) {
-        Page<Department> page = departmentRepository.findAll(pageable);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PageResponse<DepartmentResponse> list(Pageable pageable, boolean includeHeadcount) {
+        if (includeHeadcount) {
+            // Only the headcount query reaches the database; identical requests while it runs share its result.
+            boolean primary = readYourWrites != null && readYourWrites.mustReadFromPrimary();
+            return headcountListFlight.execute(new HeadcountListKey(pageable, primary), () -> page(pageable, true));
+        }
+        return page(pageable, false);
+    }
+
+    private PageResponse<DepartmentResponse> page(Pageable pageable, boolean includeHeadcount) {
+        List<DepartmentResponse> all = departmentDirectory.snapshot().all();
+        if (pageable.getSort().isSorted()) {
+            all = all.stream().sorted(comparator(pageable.getSort())).toList();
+        }
+
+        int total = all.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        int totalPages = (int) Math.ceil((double) total / pageable.getPageSize());
+        List<DepartmentResponse> items = all.subList(from, to);
+        if (includeHeadcount) {
+            items = withHeadcounts(items);
+        }
         return new PageResponse<>(
-                page.getContent().stream().map(departmentMapper::toResponse).toList(),
-                new PageMeta(pageable.getPageNumber(), pageable.getPageSize(), page.getTotalElements(), page.getTotalPages())
+                items,
+                new PageMeta(pageable.getPageNumber(), pageable.getPageSize(), total, totalPages)
         );
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public DepartmentResponse getById(UUID id) {
-        Department dept = departmentRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Department not found"));
-        return departmentMapper.toResponse(dept);
+        DepartmentResponse dept = departmentDirectory.snapshot().get(id);
+        if (dept == null) {
+            throw new NotFoundException("Department not found");
+        }
+        return dept;
     }
 
     @Override
-    public DepartmentResponse update(UUID id, DepartmentUpdateRequest request) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public BatchGetResponse<DepartmentResponse> batchGet(List<UUID> ids) {
+        DepartmentDirectory.Snapshot snapshot = departmentDirectory.snapshot();
+        Map<UUID, DepartmentResponse> found = new HashMap<>();
+        for (UUID id : ids) {
+            DepartmentResponse dept = snapshot.get(id);
+            if (dept != null) {
+                found.put(id, dept);
+            }
+        }
+        return BatchGetResponse.inRequestOrder(ids, found);
+    }
+
+    @Override
+    public String snapshotTag() {
+        return departmentDirectory.snapshot().tag();
+    }
+
+    @Override
+    public DepartmentResponse update(UUID id, DepartmentUpdateRequest request, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return updateIfVersionMatches(id, request, expectedVersion);
+        }
+
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Department not found"));
 
@@ -68,14 +183,163 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
 
         departmentMapper.applyUpdate(dept, request);
-        Department saved = departmentRepository.save(dept);
-        return departmentMapper.toResponse(saved);
+        Department saved = departmentRepository.saveAndFlush(dept);
+        DepartmentResponse response = departmentMapper.toResponse(saved);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(id, ChangeType.UPDATED, departmentMapper.toResponse(saved)));
+        return response;
+    }
+
+    @Override
+    public DepartmentResponse patch(UUID id, JsonNode mergePatch, Long expectedVersion) {
+        Department dept = departmentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Department not found"));
+        if (expectedVersion != null && !expectedVersion.equals(dept.getVersion())) {
+            throw new PreconditionFailedException("Department was modified since it was read");
+        }
+
+        DepartmentUpdateRequest merged = mergePatcher.apply(mergePatch, departmentMapper.toUpdateRequest(dept));
+        if (!merged.getName().equalsIgnoreCase(dept.getName())
+                && departmentRepository.existsByNameIgnoreCaseAndIdNot(merged.getName(), id)) {
+            throw new ConflictException("Department with name already exists");
+        }
+
+        // Department is @DynamicUpdate: only changed columns are written, and a no-op patch writes nothing.
+        Long versionBefore = dept.getVersion();
+        departmentMapper.applyUpdate(dept, merged);
+        Department saved = departmentRepository.saveAndFlush(dept);
+        DepartmentResponse response = departmentMapper.toResponse(saved);
+        if (!versionBefore.equals(saved.getVersion())) {
+            eventPublisher.publishEvent(new DepartmentChangedEvent(id, ChangeType.UPDATED, departmentMapper.toResponse(saved)));
+        }
+        return response;
+    }
+
+    private DepartmentResponse updateIfVersionMatches(UUID id, DepartmentUpdateRequest request, long expectedVersion) {
+        Department changes = new Department();
+        departmentMapper.applyUpdate(changes, request);
+
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated;
+        try {
+            // Name uniqueness is left to the unique index so the write stays a single statement.
+            updated = departmentRepository.updateIfVersionMatches(id, expectedVersion, changes, now);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("Department with name already exists");
+        }
+        if (updated == 0) {
+            if (!departmentRepository.existsById(id)) {
+                throw new NotFoundException("Department not found");
+            }
+            throw new PreconditionFailedException("Department was modified since it was read");
+        }
+
+        // The row as written, without reading it back: only the creation time is not known here, and it never changes.
+        changes.setId(id);
+        changes.setCreatedAt(createdAt(id));
+        changes.setUpdatedAt(now);
+        changes.setVersion(expectedVersion + 1);
+        DepartmentResponse response = departmentMapper.toResponse(changes);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(id, ChangeType.UPDATED, departmentMapper.toResponse(changes)));
+        return response;
+    }
+
+    private OffsetDateTime createdAt(UUID id) {
+        DepartmentResponse known = departmentDirectory.snapshot().get(id);
+        if (known != null) {
+            return known.getCreatedAt();
+        }
+        // Created on another instance since the directory was last refreshed.
+        return departmentRepository.findById(id)
+                .map(Department::getCreatedAt)
+                .orElseThrow(() -> new NotFoundException("Department not found"));
     }
 
     @Override
     public void delete(UUID id) {
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Department not found"));
+        if (shards.scatter(shard -> employeeRepository.existsByDepartmentId(id)).contains(true)) {
+            throw new ConflictException("Department still has employees; reassign them to another department first");
+        }
         departmentRepository.delete(dept);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(id, ChangeType.DELETED, null));
+    }
+
+    @Override
+    public DepartmentReassignmentResponse deleteAndReassign(UUID id, UUID targetDepartmentId) {
+        if (id.equals(targetDepartmentId)) {
+            throw new ConflictException("Employees cannot be reassigned to the department being removed");
+        }
+        Department dept = departmentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Department not found"));
+        if (!departmentRepository.existsById(targetDepartmentId)) {
+            throw new NotFoundException("Target department not found");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Pageable chunk = PageRequest.of(0, reassignChunkSize);
+        // Without sharding every chunk and the delete share this transaction, so a failure moves nobody. With sharding
+        // each shard commits its moves on its own before the department is deleted; a retry after a failure picks up
+        // whatever is left.
+        long moved = shards.scatterWrite(shard -> {
+            long movedOnShard = 0;
+            List<UUID> ids;
+            // Moved rows no longer match the source department, so the first page is always the next chunk. The read
+            // locks what it matches, so the last, empty one keeps employees from joining the department until commit.
+            while (!(ids = employeeRepository.lockIdsByDepartmentId(id, chunk)).isEmpty()) {
+                movedOnShard += employeeRepository.reassignDepartment(ids, targetDepartmentId, now);
+                eventPublisher.publishEvent(new EmployeesReassignedEvent(ids, id, targetDepartmentId, now));
+            }
+            return movedOnShard;
+        }).stream().mapToLong(Long::longValue).sum();
+
+        // A shard that committed its moves early can take on new employees of the department before it is deleted.
+        if (shards.scatter(shard -> employeeRepository.existsByDepartmentId(id)).contains(true)) {
+            throw new ConflictException("Employees joined the department while it was being removed; retry the request");
+        }
+        departmentRepository.delete(dept);
+        eventPublisher.publishEvent(new DepartmentChangedEvent(id, ChangeType.DELETED, null));
+        return new DepartmentReassignmentResponse(id, targetDepartmentId, moved);
+    }
+
+    private List<DepartmentResponse> withHeadcounts(List<DepartmentResponse> departments) {
+        if (departments.isEmpty()) {
+            return departments;
+        }
+        Map<UUID, long[]> counts = new HashMap<>();
+        List<UUID> ids = departments.stream().map(DepartmentResponse::getId).toList();
+        List<List<DepartmentStatusCount>> perShard = shards.scatter(shard -> employeeRepository.countByDepartmentAndStatus(ids));
+        for (List<DepartmentStatusCount> rows : perShard) {
+            for (DepartmentStatusCount row : rows) {
+                long[] slot = counts.computeIfAbsent(row.getDepartmentId(), k -> new long[2]);
+                slot[row.getStatus() == EmployeeStatus.ACTIVE ? 0 : 1] += row.getTotal();
+            }
+        }
+        return departments.stream()
+                .map(d -> {
+                    long[] slot = counts.getOrDefault(d.getId(), new long[2]);
+                    return departmentMapper.withHeadcount(d, new DepartmentHeadcount(slot[0], slot[1]));
+                })
+                .toList();
+    }
+
+    private static Comparator<DepartmentResponse> comparator(Sort sort) {
+        Comparator<DepartmentResponse> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<DepartmentResponse> next = SORTABLE.get(order.getProperty());
+            if (next == null) {
+                throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(Department.class), List.of());
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        return result;
+    }
+
+    private static <V> Comparator<DepartmentResponse> nullsLast(
+            Function<DepartmentResponse, V> key, Comparator<? super V> order) {
+        return Comparator.comparing(key, Comparator.nullsLast(order));
     }
 }
@@ -0,0 +1,48 @@
+package com.ems.employee.controller;
+
+import com.ems.common.batch.BatchGetRequest;
+import com.ems.common.batch.BatchGetResponse;
+import com.ems.employee.dto.EmployeeBatchRequest;
+import com.ems.employee.dto.EmployeeBatchResponse;
+import com.ems.employee.dto.EmployeeResponse;
+import com.ems.employee.service.EmployeeService;
+
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Collection-level custom methods ({@code /employees:<verb>}). They live outside {@link EmployeeController} because a
+ * class-level {@code /employees} mapping would be joined to the verb with a slash.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class EmployeeBatchController {
+
+    private static final String EXPAND_DEPARTMENT = "department";
+
+    private final EmployeeService employeeService;
+
+    public EmployeeBatchController(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @PostMapping("/employees:batchGet")
+    public ResponseEntity<BatchGetResponse<EmployeeResponse>> batchGet(@Valid @RequestBody BatchGetRequest request,
+                                                                       @RequestParam(required = false) List<String> expand) {
+        boolean expandDepartment = expand != null && expand.contains(EXPAND_DEPARTMENT);
+        return ResponseEntity.ok(employeeService.batchGet(request.getIds(), expandDepartment));
+    }
+
+    @PostMapping("/employees:batch")
+    public ResponseEntity<EmployeeBatchResponse> batch(@Valid @RequestBody EmployeeBatchRequest request) {
+        return ResponseEntity.ok(employeeService.batch(request));
+    }
+}
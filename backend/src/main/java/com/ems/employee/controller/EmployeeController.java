@@ -1,36 +1,53 @@
 package com.ems.employee.controller;
 
+import com.ems.common.exception.InvalidRequestException;
 import com.ems.common.pagination.PageResponse;
+import com.ems.common.pagination.SyncWatermark;
+import com.ems.common.patch.JsonMergePatcher;
+import com.ems.common.web.EntityTags;
+import com.ems.employee.dto.EmployeeChangesResponse;
 import com.ems.employee.dto.EmployeeCreateRequest;
 import com.ems.employee.dto.EmployeeResponse;
 import com.ems.employee.dto.EmployeeUpdateRequest;
+import com.ems.employee.dto.ReadSource;
 import com.ems.employee.entity.EmployeeRole;
 import com.ems.employee.entity.EmployeeStatus;
 import com.ems.employee.service.EmployeeService;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/employees")
 public class EmployeeController {
 
+    private static final String EXPAND_DEPARTMENT = "department";
+    private static final int MAX_CHANGES_LIMIT = 1000;
+
     private final EmployeeService employeeService;
 
     public EmployeeController(EmployeeService employeeService) {
@@ -49,20 +66,51 @@ public class EmployeeController {
             @RequestParam(required = false) String sort,
             @RequestParam(required = false) UUID departmentId,
             @RequestParam(required = false) EmployeeRole role,
-            @RequestParam(required = false) EmployeeStatus status
+            @RequestParam(required = false) EmployeeStatus status,
+            @RequestParam(required = false) List<String> expand,
+            @RequestParam(required = false) ReadSource source
     ) {
         Pageable pageable = toPageable(page, size, sort);
-        return ResponseEntity.ok(employeeService.list(pageable, departmentId, role, status));
+        return ResponseEntity.ok(employeeService.list(pageable, departmentId, role, status, expandsDepartment(expand), source));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<EmployeeChangesResponse> changes(@RequestParam(required = false) String since,
+                                                           @RequestParam(defaultValue = "500") int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        return ResponseEntity.ok(employeeService.changesSince(SyncWatermark.decode(since), limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getById(@PathVariable UUID id) {
-        return ResponseEntity.ok(employeeService.getById(id));
+    public ResponseEntity<EmployeeResponse> getById(@PathVariable UUID id, @RequestParam(required = false) List<String> expand,
+                                                    WebRequest webRequest) {
+        if (expandsDepartment(expand)) {
+            // The embedded department is not covered by the employee's version.
+            return ResponseEntity.ok(employeeService.getById(id, true));
+        }
+
+        EmployeeResponse employee = employeeService.getById(id, false);
+        String etag = EntityTags.of(employee.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(employee);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> update(@PathVariable UUID id, @Valid @RequestBody EmployeeUpdateRequest request) {
-        return ResponseEntity.ok(employeeService.update(id, request));
+    public ResponseEntity<EmployeeResponse> update(@PathVariable UUID id, @Valid @RequestBody EmployeeUpdateRequest request,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeResponse updated = employeeService.update(id, request, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updated.getVersion())).body(updated);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {JsonMergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<EmployeeResponse> patch(@PathVariable UUID id, @RequestBody JsonNode mergePatch,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeResponse patched = employeeService.patch(id, mergePatch, EntityTags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(patched.getVersion())).body(patched);
     }
 
     @DeleteMapping("/{id}")
@@ -71,6 +119,10 @@ public class EmployeeController {
         return ResponseEntity.noContent().build();
     }
 
+    private static boolean expandsDepartment(List<String> expand) {
+        return expand != null && expand.contains(EXPAND_DEPARTMENT);
+    }
+
     private Pageable toPageable(int page, int size, String sort) {
         if (sort == null || sort.isBlank()) {
             return PageRequest.of(page, size);
@@ -0,0 +1,51 @@
+package com.ems.employee.controller;
+
+import com.ems.common.exception.InvalidRequestException;
+import com.ems.employee.dto.DepartmentTopEarners;
+import com.ems.employee.dto.SalaryRankResponse;
+import com.ems.employee.dto.TopEarnersResponse;
+import com.ems.employee.service.EmployeeRankingService;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1")
+public class EmployeeRankingController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final EmployeeRankingService rankingService;
+
+    public EmployeeRankingController(EmployeeRankingService rankingService) {
+        this.rankingService = rankingService;
+    }
+
+    @GetMapping("/departments/top-earners")
+    public ResponseEntity<TopEarnersResponse> topEarnersPerDepartment(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(rankingService.topEarnersPerDepartment(checkLimit(limit)));
+    }
+
+    @GetMapping("/departments/{id}/top-earners")
+    public ResponseEntity<DepartmentTopEarners> topEarners(@PathVariable UUID id, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(rankingService.topEarners(id, checkLimit(limit)));
+    }
+
+    @GetMapping("/employees/{id}/salary-rank")
+    public ResponseEntity<SalaryRankResponse> salaryRank(@PathVariable UUID id) {
+        return ResponseEntity.ok(rankingService.salaryRank(id));
+    }
+
+    private static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
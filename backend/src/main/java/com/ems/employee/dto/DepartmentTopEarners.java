@@ -0,0 +1,34 @@
+package com.ems.employee.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public class DepartmentTopEarners {
+
+    private UUID departmentId;
+    private List<RankedEmployee> employees;
+
+    public DepartmentTopEarners() {
+    }
+
+    public DepartmentTopEarners(UUID departmentId, List<RankedEmployee> employees) {
+        this.departmentId = departmentId;
+        this.employees = employees;
+    }
+
+    public UUID getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(UUID departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public List<RankedEmployee> getEmployees() {
+        return employees;
+    }
+
+    public void setEmployees(List<RankedEmployee> employees) {
+        this.employees = employees;
+    }
+}
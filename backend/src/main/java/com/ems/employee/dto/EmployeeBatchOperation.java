@@ -0,0 +1,92 @@
+package com.ems.employee.dto;
+
+import com.ems.common.batch.BatchOperationType;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "op")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = EmployeeBatchOperation.Create.class, name = "CREATE"),
+        @JsonSubTypes.Type(value = EmployeeBatchOperation.Update.class, name = "UPDATE"),
+        @JsonSubTypes.Type(value = EmployeeBatchOperation.Delete.class, name = "DELETE")
+})
+public abstract class EmployeeBatchOperation {
+
+    public abstract BatchOperationType type();
+
+    public static class Create extends EmployeeBatchOperation {
+
+        @NotNull
+        @Valid
+        private EmployeeCreateRequest employee;
+
+        @Override
+        public BatchOperationType type() {
+            return BatchOperationType.CREATE;
+        }
+
+        public EmployeeCreateRequest getEmployee() {
+            return employee;
+        }
+
+        public void setEmployee(EmployeeCreateRequest employee) {
+            this.employee = employee;
+        }
+    }
+
+    public static class Update extends EmployeeBatchOperation {
+
+        @NotNull
+        private UUID id;
+
+        @NotNull
+        @Valid
+        private EmployeeUpdateRequest employee;
+
+        @Override
+        public BatchOperationType type() {
+            return BatchOperationType.UPDATE;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public EmployeeUpdateRequest getEmployee() {
+            return employee;
+        }
+
+        public void setEmployee(EmployeeUpdateRequest employee) {
+            this.employee = employee;
+        }
+    }
+
+    public static class Delete extends EmployeeBatchOperation {
+
+        @NotNull
+        private UUID id;
+
+        @Override
+        public BatchOperationType type() {
+            return BatchOperationType.DELETE;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.ems.employee.dto;
+
+import com.ems.common.batch.BatchMode;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class EmployeeBatchRequest {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    @NotNull
+    private BatchMode mode = BatchMode.ATOMIC;
+
+    @NotEmpty
+    @Size(max = MAX_OPERATIONS)
+    private List<@NotNull @Valid EmployeeBatchOperation> operations;
+
+    public BatchMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchMode mode) {
+        this.mode = mode;
+    }
+
+    public List<EmployeeBatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<EmployeeBatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ems.employee.dto;
+
+import com.ems.common.batch.BatchMode;
+
+import java.util.List;
+
+public class EmployeeBatchResponse {
+
+    private BatchMode mode;
+    private int succeeded;
+    private int failed;
+    private List<EmployeeBatchResult> results;
+
+    public EmployeeBatchResponse() {
+    }
+
+    public EmployeeBatchResponse(BatchMode mode, List<EmployeeBatchResult> results) {
+        this.mode = mode;
+        this.results = results;
+        this.failed = (int) results.stream().filter(r -> r.getCode() != null).count();
+        this.succeeded = results.size() - failed;
+    }
+
+    public BatchMode getMode() {
+        return mode;
+    }
+
+    public void setMode(BatchMode mode) {
+        this.mode = mode;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<EmployeeBatchResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<EmployeeBatchResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ems.employee.dto;
+
+import com.ems.common.batch.BatchOperationType;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeBatchResult {
+
+    private int index;
+    private BatchOperationType op;
+    private int status;
+    private UUID id;
+    private EmployeeResponse item;
+    private String code;
+    private String message;
+
+    public EmployeeBatchResult() {
+    }
+
+    public EmployeeBatchResult(int index, BatchOperationType op, int status) {
+        this.index = index;
+        this.op = op;
+        this.status = status;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public BatchOperationType getOp() {
+        return op;
+    }
+
+    public void setOp(BatchOperationType op) {
+        this.op = op;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public EmployeeResponse getItem() {
+        return item;
+    }
+
+    public void setItem(EmployeeResponse item) {
+        this.item = item;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ems.employee.dto;
+
+import java.util.List;
+
+public class EmployeeChangesResponse {
+
+    private List<EmployeeResponse> items;
+    private String watermark;
+    private boolean hasMore;
+    private boolean reset;
+
+    public EmployeeChangesResponse() {
+    }
+
+    public EmployeeChangesResponse(List<EmployeeResponse> items, String watermark, boolean hasMore, boolean reset) {
+        this.items = items;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+        this.reset = reset;
+    }
+
+    public List<EmployeeResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<EmployeeResponse> items) {
+        this.items = items;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ems.employee.dto;
+
+import java.util.UUID;
+
+public class EmployeeDepartmentSummary {
+
+    private UUID id;
+    private String name;
+    private String description;
+
+    public EmployeeDepartmentSummary() {
+    }
+
+    public EmployeeDepartmentSummary(UUID id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
@@ -3,10 +3,14 @@ package com.ems.employee.dto;
 import com.ems.employee.entity.EmployeeRole;
 import com.ems.employee.entity.EmployeeStatus;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonSerialize(using = EmployeeResponseSerializer.class)
 public class EmployeeResponse {
 
     private UUID id;
@@ -21,6 +25,10 @@ public class EmployeeResponse {
     private EmployeeStatus status;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
+    private Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private EmployeeDepartmentSummary department;
 
     public UUID getId() {
         return id;
@@ -117,4 +125,20 @@ public class EmployeeResponse {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public EmployeeDepartmentSummary getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(EmployeeDepartmentSummary department) {
+        this.department = department;
+    }
 }
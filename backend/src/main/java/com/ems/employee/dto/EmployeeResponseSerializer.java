@@ -0,0 +1,87 @@
+package com.ems.employee.dto;
+
+import com.ems.common.json.JsonWriters;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link EmployeeResponse} field by field, in declaration order, as the bean serializer did.
+ */
+public class EmployeeResponseSerializer extends StdSerializer<EmployeeResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString PHONE = new SerializedString("phone");
+    private static final SerializedString DESIGNATION = new SerializedString("designation");
+    private static final SerializedString SALARY = new SerializedString("salary");
+    private static final SerializedString DEPARTMENT_ID = new SerializedString("departmentId");
+    private static final SerializedString ROLE = new SerializedString("role");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString DEPARTMENT = new SerializedString("department");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+
+    private static final SerializedString[] ROLES = JsonWriters.enumNames(EmployeeRole.class);
+    private static final SerializedString[] STATUSES = JsonWriters.enumNames(EmployeeStatus.class);
+
+    public EmployeeResponseSerializer() {
+        super(EmployeeResponse.class);
+    }
+
+    @Override
+    public void serialize(EmployeeResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        JsonWriters.writeUuid(gen, value.getId());
+        gen.writeFieldName(FIRST_NAME);
+        JsonWriters.writeString(gen, value.getFirstName());
+        gen.writeFieldName(LAST_NAME);
+        JsonWriters.writeString(gen, value.getLastName());
+        gen.writeFieldName(EMAIL);
+        JsonWriters.writeString(gen, value.getEmail());
+        gen.writeFieldName(PHONE);
+        JsonWriters.writeString(gen, value.getPhone());
+        gen.writeFieldName(DESIGNATION);
+        JsonWriters.writeString(gen, value.getDesignation());
+        gen.writeFieldName(SALARY);
+        JsonWriters.writeNumber(gen, value.getSalary());
+        gen.writeFieldName(DEPARTMENT_ID);
+        JsonWriters.writeUuid(gen, value.getDepartmentId());
+        gen.writeFieldName(ROLE);
+        JsonWriters.writeEnum(gen, value.getRole(), ROLES);
+        gen.writeFieldName(STATUS);
+        JsonWriters.writeEnum(gen, value.getStatus(), STATUSES);
+        gen.writeFieldName(CREATED_AT);
+        JsonWriters.writeTimestamp(gen, value.getCreatedAt(), provider);
+        gen.writeFieldName(UPDATED_AT);
+        JsonWriters.writeTimestamp(gen, value.getUpdatedAt(), provider);
+        gen.writeFieldName(VERSION);
+        JsonWriters.writeNumber(gen, value.getVersion());
+
+        EmployeeDepartmentSummary department = value.getDepartment();
+        if (department != null) {
+            gen.writeFieldName(DEPARTMENT);
+            gen.writeStartObject(department);
+            gen.writeFieldName(ID);
+            JsonWriters.writeUuid(gen, department.getId());
+            gen.writeFieldName(NAME);
+            JsonWriters.writeString(gen, department.getName());
+            gen.writeFieldName(DESCRIPTION);
+            JsonWriters.writeString(gen, department.getDescription());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
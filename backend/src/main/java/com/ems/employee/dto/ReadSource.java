@@ -0,0 +1,9 @@
+package com.ems.employee.dto;
+
+/**
+ * Where a list query is answered from.
+ */
+public enum ReadSource {
+    DATABASE,
+    MEMORY
+}
@@ -0,0 +1,62 @@
+package com.ems.employee.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public class SalaryRankResponse {
+
+    private UUID employeeId;
+    private UUID departmentId;
+    private BigDecimal salary;
+    private long rank;
+    private long departmentSize;
+    private double percentRank;
+
+    public UUID getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(UUID employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public UUID getDepartmentId() {
+        return departmentId;
+    }
+
+    public void setDepartmentId(UUID departmentId) {
+        this.departmentId = departmentId;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+
+    public long getRank() {
+        return rank;
+    }
+
+    public void setRank(long rank) {
+        this.rank = rank;
+    }
+
+    public long getDepartmentSize() {
+        return departmentSize;
+    }
+
+    public void setDepartmentSize(long departmentSize) {
+        this.departmentSize = departmentSize;
+    }
+
+    public double getPercentRank() {
+        return percentRank;
+    }
+
+    public void setPercentRank(double percentRank) {
+        this.percentRank = percentRank;
+    }
+}
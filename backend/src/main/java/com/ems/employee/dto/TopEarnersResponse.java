@@ -0,0 +1,23 @@
+package com.ems.employee.dto;
+
+import java.util.List;
+
+public class TopEarnersResponse {
+
+    private List<DepartmentTopEarners> departments;
+
+    public TopEarnersResponse() {
+    }
+
+    public TopEarnersResponse(List<DepartmentTopEarners> departments) {
+        this.departments = departments;
+    }
+
+    public List<DepartmentTopEarners> getDepartments() {
+        return departments;
+    }
+
+    public void setDepartments(List<DepartmentTopEarners> departments) {
+        this.departments = departments;
+    }
+}
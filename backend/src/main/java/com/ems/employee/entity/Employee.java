@@ -5,16 +5,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
-@Table(name = "employees")
+@DynamicUpdate
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_department_status_salary", columnList = "department_id, status, salary")
+})
 public class Employee {
 
     @Id
@@ -56,6 +65,10 @@ public class Employee {
     @Column(name = "updated_at", nullable = false)
     private OffsetDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     void prePersist() {
         if (id == null) {
@@ -64,7 +77,7 @@ public class Employee {
         if (status == null) {
             status = EmployeeStatus.ACTIVE;
         }
-        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
         if (createdAt == null) {
             createdAt = now;
         }
@@ -73,7 +86,7 @@ public class Employee {
 
     @PreUpdate
     void preUpdate() {
-        updatedAt = OffsetDateTime.now();
+        updatedAt = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 
     public UUID getId() {
@@ -104,8 +117,11 @@ public class Employee {
         return email;
     }
 
+    /**
+     * Stored lower-cased, so lookups can compare against the column (and its unique index) directly.
+     */
     public void setEmail(String email) {
-        this.email = email;
+        this.email = email != null ? email.toLowerCase(Locale.ROOT) : null;
     }
 
     public String getPhone() {
@@ -171,4 +187,12 @@ public class Employee {
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
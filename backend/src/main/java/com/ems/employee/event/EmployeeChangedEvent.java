@@ -0,0 +1,42 @@
+package com.ems.employee.event;
+
+import com.ems.common.event.ChangeType;
+import com.ems.employee.dto.EmployeeResponse;
+
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction whenever an employee is created or updated (soft-deletes are updates).
+ * {@code employee} holds the state after the change and {@code previous} the state before it ({@code null} for
+ * creates).
+ */
+public class EmployeeChangedEvent {
+
+    private final UUID employeeId;
+    private final ChangeType type;
+    private final EmployeeResponse employee;
+    private final EmployeeResponse previous;
+
+    public EmployeeChangedEvent(UUID employeeId, ChangeType type, EmployeeResponse employee, EmployeeResponse previous) {
+        this.employeeId = employeeId;
+        this.type = type;
+        this.employee = employee;
+        this.previous = previous;
+    }
+
+    public UUID getEmployeeId() {
+        return employeeId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public EmployeeResponse getEmployee() {
+        return employee;
+    }
+
+    public EmployeeResponse getPrevious() {
+        return previous;
+    }
+}
@@ -0,0 +1,41 @@
+package com.ems.employee.event;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction for each chunk of employees moved by a bulk department reassignment,
+ * which does not load the employees and so cannot publish an {@link EmployeeChangedEvent} per row.
+ */
+public class EmployeesReassignedEvent {
+
+    private final List<UUID> employeeIds;
+    private final UUID previousDepartmentId;
+    private final UUID departmentId;
+    private final OffsetDateTime updatedAt;
+
+    public EmployeesReassignedEvent(List<UUID> employeeIds, UUID previousDepartmentId, UUID departmentId,
+                                    OffsetDateTime updatedAt) {
+        this.employeeIds = employeeIds;
+        this.previousDepartmentId = previousDepartmentId;
+        this.departmentId = departmentId;
+        this.updatedAt = updatedAt;
+    }
+
+    public List<UUID> getEmployeeIds() {
+        return employeeIds;
+    }
+
+    public UUID getPreviousDepartmentId() {
+        return previousDepartmentId;
+    }
+
+    public UUID getDepartmentId() {
+        return departmentId;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
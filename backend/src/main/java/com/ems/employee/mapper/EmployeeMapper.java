@@ -22,6 +22,7 @@ public class EmployeeMapper {
         dto.setStatus(entity.getStatus());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setVersion(entity.getVersion());
         return dto;
     }
 
@@ -39,6 +40,20 @@ public class EmployeeMapper {
         return e;
     }
 
+    public EmployeeUpdateRequest toUpdateRequest(Employee entity) {
+        EmployeeUpdateRequest req = new EmployeeUpdateRequest();
+        req.setFirstName(entity.getFirstName());
+        req.setLastName(entity.getLastName());
+        req.setEmail(entity.getEmail());
+        req.setPhone(entity.getPhone());
+        req.setDesignation(entity.getDesignation());
+        req.setSalary(entity.getSalary());
+        req.setDepartmentId(entity.getDepartmentId());
+        req.setRole(entity.getRole());
+        req.setStatus(entity.getStatus());
+        return req;
+    }
+
     public void applyUpdate(Employee target, EmployeeUpdateRequest req) {
         target.setFirstName(req.getFirstName());
         target.setLastName(req.getLastName());
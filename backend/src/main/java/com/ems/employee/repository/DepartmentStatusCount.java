@@ -0,0 +1,14 @@
+package com.ems.employee.repository;
+
+import com.ems.employee.entity.EmployeeStatus;
+
+import java.util.UUID;
+
+public interface DepartmentStatusCount {
+
+    UUID getDepartmentId();
+
+    EmployeeStatus getStatus();
+
+    long getTotal();
+}
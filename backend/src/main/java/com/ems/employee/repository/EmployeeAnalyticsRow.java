@@ -0,0 +1,22 @@
+package com.ems.employee.repository;
+
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface EmployeeAnalyticsRow {
+
+    UUID getId();
+
+    BigDecimal getSalary();
+
+    UUID getDepartmentId();
+
+    String getDesignation();
+
+    EmployeeRole getRole();
+
+    EmployeeStatus getStatus();
+}
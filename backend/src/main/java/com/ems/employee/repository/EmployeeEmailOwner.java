@@ -0,0 +1,10 @@
+package com.ems.employee.repository;
+
+import java.util.UUID;
+
+public interface EmployeeEmailOwner {
+
+    UUID getId();
+
+    String getEmail();
+}
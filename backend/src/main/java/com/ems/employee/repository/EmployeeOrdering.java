@@ -0,0 +1,80 @@
+package com.ems.employee.repository;
+
+import com.ems.employee.entity.Employee;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The database order of employees, in memory, for merging rows sorted by several shards. Every order ends with the id
+ * so it is total and matches {@link #withIdTiebreak}.
+ */
+public final class EmployeeOrdering {
+
+    public static final Comparator<UUID> UUIDS = (a, b) -> {
+        // Same order as the database, which compares UUIDs as unsigned bytes.
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    };
+
+    public static final Comparator<Employee> BY_ID = Comparator.comparing(Employee::getId, UUIDS);
+
+    // Text columns use MySQL's case-insensitive collation, so the database sorts them ignoring case either way.
+    private static final Comparator<String> STRINGS = String.CASE_INSENSITIVE_ORDER;
+
+    private EmployeeOrdering() {
+    }
+
+    /**
+     * {@code sort} followed by the id, so rows that tie on the sort keys come back in the same order from every shard.
+     */
+    public static Sort withIdTiebreak(Sort sort) {
+        return sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+    }
+
+    public static Comparator<Employee> comparator(Sort sort) {
+        Comparator<Employee> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<Employee> next = property(order.getProperty());
+            if (next == null) {
+                throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(Employee.class), List.of());
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        return result == null ? BY_ID : result.thenComparing(BY_ID);
+    }
+
+    private static Comparator<Employee> property(String property) {
+        return switch (property) {
+            case "id" -> BY_ID;
+            case "firstName" -> nullsFirst(Employee::getFirstName, STRINGS);
+            case "lastName" -> nullsFirst(Employee::getLastName, STRINGS);
+            case "email" -> nullsFirst(Employee::getEmail, STRINGS);
+            case "phone" -> nullsFirst(Employee::getPhone, STRINGS);
+            case "designation" -> nullsFirst(Employee::getDesignation, STRINGS);
+            case "salary" -> nullsFirst(Employee::getSalary, Comparator.naturalOrder());
+            case "departmentId" -> nullsFirst(Employee::getDepartmentId, UUIDS);
+            // Enums are stored by name.
+            case "role" -> nullsFirst(e -> e.getRole().name(), STRINGS);
+            case "status" -> nullsFirst(e -> e.getStatus().name(), STRINGS);
+            case "createdAt" -> nullsFirst(Employee::getCreatedAt, OffsetDateTime.timeLineOrder());
+            case "updatedAt" -> nullsFirst(Employee::getUpdatedAt, OffsetDateTime.timeLineOrder());
+            case "version" -> nullsFirst(Employee::getVersion, Comparator.naturalOrder());
+            default -> null;
+        };
+    }
+
+    private static <V> Comparator<Employee> nullsFirst(Function<Employee, V> key, Comparator<? super V> order) {
+        return Comparator.comparing(key, Comparator.nullsFirst(order));
+    }
+}
@@ -1,10 +1,22 @@
 package com.ems.employee.repository;
 
 import com.ems.employee.entity.Employee;
+import com.ems.employee.entity.EmployeeStatus;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,4 +27,62 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID>, JpaSp
     boolean existsByEmailIgnoreCase(String email);
 
     boolean existsByEmailIgnoreCaseAndIdNot(String email, UUID id);
+
+    boolean existsByDepartmentId(UUID departmentId);
+
+    @Query("select e.id as id, e.email as email from Employee e where e.email in :emails")
+    List<EmployeeEmailOwner> findEmailOwners(@Param("emails") Collection<String> lowerCaseEmails);
+
+    @Query("select e.departmentId as departmentId, e.status as status, count(e) as total from Employee e "
+            + "where e.departmentId in :departmentIds group by e.departmentId, e.status")
+    List<DepartmentStatusCount> countByDepartmentAndStatus(@Param("departmentIds") Collection<UUID> departmentIds);
+
+    @Query("select e.id as id, e.salary as salary, e.departmentId as departmentId, e.designation as designation, "
+            + "e.role as role, e.status as status from Employee e where :after is null or e.id > :after order by e.id")
+    List<EmployeeAnalyticsRow> findAnalyticsRows(@Param("after") UUID after, Pageable pageable);
+
+    @Query("select e from Employee e where e.id >= :from and (:to is null or e.id < :to) "
+            + "and (:after is null or e.id > :after) order by e.id")
+    List<Employee> findIdRange(@Param("from") UUID from, @Param("to") UUID to, @Param("after") UUID after,
+                               Pageable pageable);
+
+    @Query("select e.id as id, e.firstName as firstName, e.lastName as lastName, e.designation as designation, "
+            + "e.salary as salary, e.departmentId as departmentId from Employee e "
+            + "where e.departmentId = :departmentId and e.status = :status order by e.salary desc, e.id")
+    List<EmployeeSalaryRow> findTopEarners(@Param("departmentId") UUID departmentId, @Param("status") EmployeeStatus status,
+                                           Pageable pageable);
+
+    @Query("select r.id as id, r.firstName as firstName, r.lastName as lastName, r.designation as designation, "
+            + "r.salary as salary, r.departmentId as departmentId from ("
+            + "select e.id as id, e.firstName as firstName, e.lastName as lastName, e.designation as designation, "
+            + "e.salary as salary, e.departmentId as departmentId, "
+            + "row_number() over (partition by e.departmentId order by e.salary desc, e.id) as rowNumber "
+            + "from Employee e where e.status = :status) r "
+            + "where r.rowNumber <= :limit order by r.departmentId, r.rowNumber")
+    List<EmployeeSalaryRow> findTopEarnersPerDepartment(@Param("status") EmployeeStatus status, @Param("limit") int limit);
+
+    @Query("select sum(case when e.salary > :salary then 1 else 0 end) as higher, "
+            + "sum(case when e.salary < :salary then 1 else 0 end) as lower, count(e) as total "
+            + "from Employee e where e.departmentId = :departmentId and e.status = :status")
+    SalaryRankCounts countSalaryRank(@Param("departmentId") UUID departmentId, @Param("status") EmployeeStatus status,
+                                     @Param("salary") BigDecimal salary);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Employee e where e.departmentId = :departmentId")
+    List<UUID> lockIdsByDepartmentId(@Param("departmentId") UUID departmentId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set e.departmentId = :targetDepartmentId, e.updatedAt = :updatedAt, e.version = e.version + 1 "
+            + "where e.id in :ids")
+    int reassignDepartment(@Param("ids") Collection<UUID> ids, @Param("targetDepartmentId") UUID targetDepartmentId,
+                           @Param("updatedAt") OffsetDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set e.firstName = :#{#changes.firstName}, e.lastName = :#{#changes.lastName}, "
+            + "e.email = :#{#changes.email}, e.phone = :#{#changes.phone}, e.designation = :#{#changes.designation}, "
+            + "e.salary = :#{#changes.salary}, e.departmentId = :#{#changes.departmentId}, e.role = :#{#changes.role}, "
+            + "e.status = :#{#changes.status}, e.updatedAt = :updatedAt, e.version = e.version + 1 "
+            + "where e.id = :id and e.version = :version")
+    int updateIfVersionMatches(@Param("id") UUID id, @Param("version") long version, @Param("changes") Employee changes,
+                               @Param("updatedAt") OffsetDateTime updatedAt);
 }
@@ -0,0 +1,19 @@
+package com.ems.employee.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface EmployeeSalaryRow {
+
+    UUID getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getDesignation();
+
+    BigDecimal getSalary();
+
+    UUID getDepartmentId();
+}
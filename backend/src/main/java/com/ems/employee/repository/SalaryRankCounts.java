@@ -0,0 +1,10 @@
+package com.ems.employee.repository;
+
+public interface SalaryRankCounts {
+
+    Long getHigher();
+
+    Long getLower();
+
+    Long getTotal();
+}
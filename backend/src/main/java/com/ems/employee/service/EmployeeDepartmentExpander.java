@@ -0,0 +1,73 @@
+package com.ems.employee.service;
+
+import com.ems.common.datasource.Shards;
+import com.ems.department.dto.DepartmentResponse;
+import com.ems.department.entity.Department;
+import com.ems.department.repository.DepartmentRepository;
+import com.ems.department.service.DepartmentDirectory;
+import com.ems.employee.dto.EmployeeDepartmentSummary;
+import com.ems.employee.dto.EmployeeResponse;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Embeds department summaries into employee responses with one lookup per batch: the in-memory department directory
+ * first, then a single IN-query for ids the directory does not (yet) know.
+ */
+@Component
+public class EmployeeDepartmentExpander {
+
+    private final DepartmentDirectory departmentDirectory;
+    private final DepartmentRepository departmentRepository;
+    private final Shards shards;
+
+    public EmployeeDepartmentExpander(DepartmentDirectory departmentDirectory, DepartmentRepository departmentRepository,
+                                      Shards shards) {
+        this.departmentDirectory = departmentDirectory;
+        this.departmentRepository = departmentRepository;
+        this.shards = shards;
+    }
+
+    public void expand(Collection<EmployeeResponse> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        DepartmentDirectory.Snapshot snapshot = departmentDirectory.snapshot();
+        Map<UUID, EmployeeDepartmentSummary> resolved = new HashMap<>();
+        Set<UUID> missing = new HashSet<>();
+        for (EmployeeResponse employee : employees) {
+            UUID departmentId = employee.getDepartmentId();
+            if (departmentId == null || resolved.containsKey(departmentId)) {
+                continue;
+            }
+            DepartmentResponse cached = snapshot.get(departmentId);
+            if (cached != null) {
+                resolved.put(departmentId, new EmployeeDepartmentSummary(cached.getId(), cached.getName(), cached.getDescription()));
+            } else {
+                missing.add(departmentId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // Departments live on the home shard, whichever shard the caller's transaction is bound to.
+            List<Department> departments = shards.read(Shards.HOME, () -> departmentRepository.findAllById(missing));
+            for (Department department : departments) {
+                resolved.put(department.getId(),
+                        new EmployeeDepartmentSummary(department.getId(), department.getName(), department.getDescription()));
+            }
+        }
+
+        for (EmployeeResponse employee : employees) {
+            employee.setDepartment(resolved.get(employee.getDepartmentId()));
+        }
+    }
+}
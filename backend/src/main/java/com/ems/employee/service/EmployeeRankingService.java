@@ -0,0 +1,16 @@
+package com.ems.employee.service;
+
+import com.ems.employee.dto.DepartmentTopEarners;
+import com.ems.employee.dto.SalaryRankResponse;
+import com.ems.employee.dto.TopEarnersResponse;
+
+import java.util.UUID;
+
+public interface EmployeeRankingService {
+
+    DepartmentTopEarners topEarners(UUID departmentId, int limit);
+
+    TopEarnersResponse topEarnersPerDepartment(int limit);
+
+    SalaryRankResponse salaryRank(UUID employeeId);
+}
@@ -0,0 +1,158 @@
+package com.ems.employee.service;
+
+import com.ems.common.datasource.Shards;
+import com.ems.common.exception.ConflictException;
+import com.ems.common.exception.NotFoundException;
+import com.ems.department.service.DepartmentDirectory;
+import com.ems.employee.dto.DepartmentTopEarners;
+import com.ems.employee.dto.RankedEmployee;
+import com.ems.employee.dto.SalaryRankResponse;
+import com.ems.employee.dto.TopEarnersResponse;
+import com.ems.employee.entity.Employee;
+import com.ems.employee.entity.EmployeeStatus;
+import com.ems.employee.repository.EmployeeOrdering;
+import com.ems.employee.repository.EmployeeRepository;
+import com.ems.employee.repository.EmployeeSalaryRow;
+import com.ems.employee.repository.SalaryRankCounts;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Salary rankings among the active employees of a department. Ranks follow SQL {@code RANK()}: equal salaries share a
+ * rank and the next rank is skipped. Only the requested rows leave the database. The {@code (department_id, status,
+ * salary)} index gives a department's top earners in salary order, but each of them is still read from the table for
+ * the name and designation. The rank of a single employee is counted over the department's whole range of that index;
+ * the cost grows with the department, not the table. With sharding, every shard returns its own top rows or counts and
+ * they are merged here.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeRankingServiceImpl implements EmployeeRankingService {
+
+    private static final Comparator<EmployeeSalaryRow> BY_SALARY_DESC =
+            Comparator.comparing(EmployeeSalaryRow::getSalary).reversed()
+                    .thenComparing(EmployeeSalaryRow::getId, EmployeeOrdering.UUIDS);
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentDirectory departmentDirectory;
+    private final Shards shards;
+
+    public EmployeeRankingServiceImpl(EmployeeRepository employeeRepository, DepartmentDirectory departmentDirectory,
+                                      Shards shards) {
+        this.employeeRepository = employeeRepository;
+        this.departmentDirectory = departmentDirectory;
+        this.shards = shards;
+    }
+
+    @Override
+    public DepartmentTopEarners topEarners(UUID departmentId, int limit) {
+        if (departmentDirectory.snapshot().get(departmentId) == null) {
+            throw new NotFoundException("Department not found");
+        }
+        List<EmployeeSalaryRow> rows = Shards.merge(shards.scatter(shard -> employeeRepository.findTopEarners(departmentId,
+                EmployeeStatus.ACTIVE, PageRequest.of(0, limit))), BY_SALARY_DESC, 0, limit);
+        return new DepartmentTopEarners(departmentId, rank(rows, 0, rows.size()));
+    }
+
+    @Override
+    public TopEarnersResponse topEarnersPerDepartment(int limit) {
+        // Ordered by department, then salary descending.
+        List<EmployeeSalaryRow> rows = shards.isSharded()
+                ? mergePerDepartment(shards.scatter(shard -> employeeRepository.findTopEarnersPerDepartment(
+                        EmployeeStatus.ACTIVE, limit)), limit)
+                : employeeRepository.findTopEarnersPerDepartment(EmployeeStatus.ACTIVE, limit);
+        List<DepartmentTopEarners> departments = new ArrayList<>();
+        int from = 0;
+        while (from < rows.size()) {
+            UUID departmentId = rows.get(from).getDepartmentId();
+            int to = from;
+            while (to < rows.size() && rows.get(to).getDepartmentId().equals(departmentId)) {
+                to++;
+            }
+            departments.add(new DepartmentTopEarners(departmentId, rank(rows, from, to)));
+            from = to;
+        }
+        return new TopEarnersResponse(departments);
+    }
+
+    @Override
+    public SalaryRankResponse salaryRank(UUID employeeId) {
+        shards.bind(shards.shardOf(employeeId));
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new NotFoundException("Employee not found"));
+        if (employee.getStatus() != EmployeeStatus.ACTIVE) {
+            throw new ConflictException("Only active employees are ranked");
+        }
+
+        long higher = 0;
+        long lower = 0;
+        long total = 0;
+        for (SalaryRankCounts counts : shards.scatter(shard -> employeeRepository.countSalaryRank(
+                employee.getDepartmentId(), EmployeeStatus.ACTIVE, employee.getSalary()))) {
+            higher += counts.getHigher() != null ? counts.getHigher() : 0;
+            lower += counts.getLower() != null ? counts.getLower() : 0;
+            total += counts.getTotal();
+        }
+
+        SalaryRankResponse response = new SalaryRankResponse();
+        response.setEmployeeId(employeeId);
+        response.setDepartmentId(employee.getDepartmentId());
+        response.setSalary(employee.getSalary());
+        response.setRank(higher + 1);
+        response.setDepartmentSize(total);
+        // Same definition as SQL PERCENT_RANK() over ascending salary.
+        response.setPercentRank(total > 1 ? (double) lower / (total - 1) : 0);
+        return response;
+    }
+
+    /**
+     * Combines per-shard top rows into the top {@code limit} of each department, in the order of the single-database
+     * query.
+     */
+    private static List<EmployeeSalaryRow> mergePerDepartment(List<List<EmployeeSalaryRow>> perShard, int limit) {
+        Map<UUID, List<EmployeeSalaryRow>> byDepartment = new TreeMap<>(EmployeeOrdering.UUIDS);
+        for (List<EmployeeSalaryRow> rows : perShard) {
+            for (EmployeeSalaryRow row : rows) {
+                byDepartment.computeIfAbsent(row.getDepartmentId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        List<EmployeeSalaryRow> merged = new ArrayList<>();
+        for (List<EmployeeSalaryRow> rows : byDepartment.values()) {
+            rows.sort(BY_SALARY_DESC);
+            merged.addAll(rows.subList(0, Math.min(limit, rows.size())));
+        }
+        return merged;
+    }
+
+    /**
+     * Ranks a slice of rows sorted by salary descending that starts at the department's top earner.
+     */
+    private static List<RankedEmployee> rank(List<EmployeeSalaryRow> rows, int from, int to) {
+        List<RankedEmployee> ranked = new ArrayList<>(to - from);
+        int rank = 0;
+        for (int i = from; i < to; i++) {
+            EmployeeSalaryRow row = rows.get(i);
+            if (i == from || row.getSalary().compareTo(rows.get(i - 1).getSalary()) != 0) {
+                rank = i - from + 1;
+            }
+            RankedEmployee employee = new RankedEmployee();
+            employee.setRank(rank);
+            employee.setId(row.getId());
+            employee.setFirstName(row.getFirstName());
+            employee.setLastName(row.getLastName());
+            employee.setDesignation(row.getDesignation());
+            employee.setSalary(row.getSalary());
+            ranked.add(employee);
+        }
+        return ranked;
+    }
+}
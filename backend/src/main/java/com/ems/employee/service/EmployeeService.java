@@ -1,25 +1,43 @@
 package com.ems.employee.service;
 
+import com.ems.common.batch.BatchGetResponse;
 import com.ems.common.pagination.PageResponse;
+import com.ems.common.pagination.SyncWatermark;
+import com.ems.employee.dto.EmployeeBatchRequest;
+import com.ems.employee.dto.EmployeeBatchResponse;
+import com.ems.employee.dto.EmployeeChangesResponse;
 import com.ems.employee.dto.EmployeeCreateRequest;
 import com.ems.employee.dto.EmployeeResponse;
 import com.ems.employee.dto.EmployeeUpdateRequest;
+import com.ems.employee.dto.ReadSource;
 import com.ems.employee.entity.EmployeeRole;
 import com.ems.employee.entity.EmployeeStatus;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface EmployeeService {
 
     EmployeeResponse create(EmployeeCreateRequest request);
 
-    PageResponse<EmployeeResponse> list(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status);
+    PageResponse<EmployeeResponse> list(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status,
+                                        boolean expandDepartment, ReadSource source);
+
+    EmployeeResponse getById(UUID id, boolean expandDepartment);
+
+    BatchGetResponse<EmployeeResponse> batchGet(List<UUID> ids, boolean expandDepartment);
 
-    EmployeeResponse getById(UUID id);
+    EmployeeChangesResponse changesSince(SyncWatermark since, int limit);
 
-    EmployeeResponse update(UUID id, EmployeeUpdateRequest request);
+    EmployeeResponse update(UUID id, EmployeeUpdateRequest request, Long expectedVersion);
+
+    EmployeeResponse patch(UUID id, JsonNode mergePatch, Long expectedVersion);
 
     void softDelete(UUID id);
+
+    EmployeeBatchResponse batch(EmployeeBatchRequest request);
 }
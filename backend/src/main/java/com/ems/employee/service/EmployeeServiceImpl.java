@@ -1,92 +1,612 @@
 package com.ems.employee.service;
 
+import com.ems.common.batch.BatchGetResponse;
+import com.ems.common.batch.BatchMode;
+import com.ems.common.concurrent.SingleFlight;
+import com.ems.common.datasource.ReadYourWritesTracker;
+import com.ems.common.datasource.Shards;
+import com.ems.common.event.ChangeType;
 import com.ems.common.exception.ConflictException;
+import com.ems.common.exception.InvalidRequestException;
 import com.ems.common.exception.NotFoundException;
+import com.ems.common.exception.PreconditionFailedException;
 import com.ems.common.pagination.PageMeta;
 import com.ems.common.pagination.PageResponse;
+import com.ems.common.pagination.SyncWatermark;
+import com.ems.common.patch.JsonMergePatcher;
+import com.ems.employee.dto.EmployeeBatchOperation;
+import com.ems.employee.dto.EmployeeBatchRequest;
+import com.ems.employee.dto.EmployeeBatchResponse;
+import com.ems.employee.dto.EmployeeBatchResult;
+import com.ems.employee.dto.EmployeeChangesResponse;
 import com.ems.employee.dto.EmployeeCreateRequest;
 import com.ems.employee.dto.EmployeeResponse;
 import com.ems.employee.dto.EmployeeUpdateRequest;
+import com.ems.employee.dto.ReadSource;
 import com.ems.employee.entity.Employee;
 import com.ems.employee.entity.EmployeeRole;
 import com.ems.employee.entity.EmployeeStatus;
+import com.ems.employee.event.EmployeeChangedEvent;
 import com.ems.employee.mapper.EmployeeMapper;
+import com.ems.employee.repository.EmployeeEmailOwner;
+import com.ems.employee.repository.EmployeeOrdering;
 import com.ems.employee.repository.EmployeeRepository;
 import com.ems.employee.repository.EmployeeSpecifications;
+import com.ems.outbox.entity.AggregateType;
+import com.ems.outbox.entity.OutboxEvent;
+import com.ems.outbox.service.OutboxRelay;
+import com.ems.readmodel.service.EmployeeReadModel;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
+    // Callers held on the primary by read-your-writes must not share a replica read, and vice versa.
+    private record ListKey(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status,
+                           boolean expandDepartment, boolean primary) {
+    }
+
+    private record GetKey(UUID id, boolean expandDepartment, boolean primary) {
+    }
+
+    // The database orders UUIDs as unsigned bytes, so no id sorts before this one.
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDepartmentExpander departmentExpander;
+    private final EntityManager entityManager;
+    private final JsonMergePatcher mergePatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int inQueryChunkSize;
+    private final EmployeeReadModel readModel;
+    private final OutboxRelay outboxRelay;
+    private final Shards shards;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Timer databaseListTimer;
+    private final Timer memoryListTimer;
+    private final TransactionTemplate readTemplate;
+    private final SingleFlight<ListKey, PageResponse<EmployeeResponse>> listFlight;
+    private final SingleFlight<GetKey, EmployeeResponse> getFlight;
     private final EmployeeMapper employeeMapper = new EmployeeMapper();
 
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, EmployeeDepartmentExpander departmentExpander,
+                               EntityManager entityManager, JsonMergePatcher mergePatcher,
+                               ApplicationEventPublisher eventPublisher, EmployeeReadModel readModel, OutboxRelay outboxRelay, Shards shards,
+                               ObjectProvider<ReadYourWritesTracker> readYourWrites, MeterRegistry meterRegistry, PlatformTransactionManager transactionManager,
+                               @Value("${ems.batch.chunk-size:500}") int inQueryChunkSize,
+                               @Value("${ems.coalescing.timeout:2s}") Duration coalescingTimeout) {
         this.employeeRepository = employeeRepository;
+        this.departmentExpander = departmentExpander;
+        this.entityManager = entityManager;
+        this.mergePatcher = mergePatcher;
+        this.eventPublisher = eventPublisher;
+        this.inQueryChunkSize = inQueryChunkSize;
+        this.readModel = readModel;
+        this.outboxRelay = outboxRelay;
+        this.shards = shards;
+        this.readYourWrites = readYourWrites.getIfAvailable();
+        this.databaseListTimer = Timer.builder("ems.employees.list").tag("source", "database").register(meterRegistry);
+        this.memoryListTimer = Timer.builder("ems.employees.list").tag("source", "memory").register(meterRegistry);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.listFlight = new SingleFlight<>("employees.list", coalescingTimeout, meterRegistry);
+        this.getFlight = new SingleFlight<>("employees.get", coalescingTimeout, meterRegistry);
     }
 
     @Override
     public EmployeeResponse create(EmployeeCreateRequest request) {
-        if (employeeRepository.existsByEmailIgnoreCase(request.getEmail())) {
+        UUID id = UUID.randomUUID();
+        shards.bind(shards.shardOf(id));
+        if (emailTaken(request.getEmail(), null)) {
             throw new ConflictException("Employee with email already exists");
         }
         Employee employee = employeeMapper.toNewEntity(request);
+        employee.setId(id);
         Employee saved = employeeRepository.save(employee);
-        return employeeMapper.toResponse(saved);
+        return publishChange(saved, ChangeType.CREATED, null);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public PageResponse<EmployeeResponse> list(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status) {
-        Specification<Employee> spec = Specification
-                .where(EmployeeSpecifications.departmentId(departmentId))
-                .and(EmployeeSpecifications.role(role))
-                .and(EmployeeSpecifications.status(status));
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PageResponse<EmployeeResponse> list(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status,
+                                               boolean expandDepartment, ReadSource source) {
+        if (readModel.serves(source)) {
+            Page<EmployeeResponse> page = memoryListTimer.record(() -> readModel.query(pageable, departmentId, role, status));
+            return toPageResponse(page, pageable, expandDepartment);
+        }
+        // Identical requests that arrive while the query runs share its result instead of running it again.
+        ListKey key = new ListKey(pageable, departmentId, role, status, expandDepartment, readsFromPrimary());
+        return listFlight.execute(key, () -> {
+            Specification<Employee> spec = Specification
+                    .where(EmployeeSpecifications.departmentId(departmentId))
+                    .and(EmployeeSpecifications.role(role))
+                    .and(EmployeeSpecifications.status(status));
+            Page<EmployeeResponse> page;
+            if (shards.isSharded()) {
+                page = databaseListTimer.record(() -> listAcrossShards(spec, pageable));
+            } else {
+                // The repository runs the count and the page query in one read-only transaction.
+                page = databaseListTimer.record(() -> employeeRepository.findAll(spec, pageable).map(employeeMapper::toResponse));
+            }
+            return toPageResponse(page, pageable, expandDepartment);
+        });
+    }
 
-        Page<Employee> page = employeeRepository.findAll(spec, pageable);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EmployeeResponse getById(UUID id, boolean expandDepartment) {
+        // Only the caller that runs the lookup opens a transaction; callers waiting for it hold no connection.
+        return getFlight.execute(new GetKey(id, expandDepartment, readsFromPrimary()), () -> readTemplate.execute(tx -> {
+            shards.bind(shards.shardOf(id));
+            Employee employee = employeeRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("Employee not found"));
+            EmployeeResponse response = employeeMapper.toResponse(employee);
+            if (expandDepartment) {
+                departmentExpander.expand(List.of(response));
+            }
+            return response;
+        }));
+    }
 
-        return new PageResponse<>(
-                page.getContent().stream().map(employeeMapper::toResponse).toList(),
-                new PageMeta(pageable.getPageNumber(), pageable.getPageSize(), page.getTotalElements(), page.getTotalPages())
-        );
+    @Override
+    @Transactional(readOnly = true)
+    public BatchGetResponse<EmployeeResponse> batchGet(List<UUID> ids, boolean expandDepartment) {
+        Map<UUID, EmployeeResponse> found = findAllById(ids);
+        if (expandDepartment) {
+            departmentExpander.expand(found.values());
+        }
+        return BatchGetResponse.inRequestOrder(ids, found);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public EmployeeResponse getById(UUID id) {
+    public EmployeeChangesResponse changesSince(SyncWatermark since, int limit) {
+        long head = outboxRelay.head();
+        SyncWatermark from = since.isOrigin() ? SyncWatermark.fullSync(head, null) : since;
+        if (!from.isFullSync() && from.position() < head && changesPurgedAfter(from.position())) {
+            // Changes the client has not seen are no longer in the stream, so it starts over with a full pass.
+            return fullSyncPage(SyncWatermark.fullSync(head, null), head, limit, true);
+        }
+        return from.isFullSync() ? fullSyncPage(from, head, limit, false) : changesPage(from.position(), head, limit);
+    }
+
+    private EmployeeChangesResponse fullSyncPage(SyncWatermark from, long head, int limit, boolean reset) {
+        // Every shard returns its next limit + 1 employees; the first limit + 1 of all shards are among them.
+        List<Employee> rows = Shards.merge(shards.scatter(shard -> employeeRepository.findIdRange(FIRST_ID, null,
+                from.afterId(), PageRequest.of(0, limit + 1))), EmployeeOrdering.BY_ID, 0, limit + 1);
+
+        boolean hasMore = rows.size() > limit;
+        List<Employee> page = hasMore ? rows.subList(0, limit) : rows;
+        // Whatever changes while the pass runs follows it, from the position the pass started at.
+        SyncWatermark next = hasMore
+                ? SyncWatermark.fullSync(from.position(), page.get(page.size() - 1).getId())
+                : SyncWatermark.changesAfter(from.position());
+        return new EmployeeChangesResponse(page.stream().map(employeeMapper::toResponse).toList(), next.encode(),
+                hasMore || from.position() < head, reset);
+    }
+
+    private EmployeeChangesResponse changesPage(long after, long head, int limit) {
+        List<OutboxEvent> events = outboxRelay.positioned(AggregateType.EMPLOYEE, after, head, limit + 1);
+        boolean hasMore = events.size() > limit;
+        List<OutboxEvent> page = hasMore ? events.subList(0, limit) : events;
+
+        // An employee changed several times in the page is returned once, as it is now.
+        List<UUID> ids = page.stream().map(OutboxEvent::getAggregateId).distinct().toList();
+        Map<UUID, EmployeeResponse> current = findAllById(ids);
+        List<EmployeeResponse> items = ids.stream().map(current::get).filter(Objects::nonNull).toList();
+        // Without further employee changes, everything up to the head has been seen.
+        long next = hasMore ? page.get(page.size() - 1).getPosition() : Math.max(after, head);
+        return new EmployeeChangesResponse(items, SyncWatermark.changesAfter(next).encode(), hasMore, false);
+    }
+
+    private boolean changesPurgedAfter(long position) {
+        Long oldest = outboxRelay.oldestPosition();
+        return oldest == null || oldest > position + 1;
+    }
+
+    @Override
+    public EmployeeResponse update(UUID id, EmployeeUpdateRequest request, Long expectedVersion) {
+        shards.bind(shards.shardOf(id));
+        if (expectedVersion != null) {
+            return updateIfVersionMatches(id, request, expectedVersion);
+        }
+
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Employee not found"));
-        return employeeMapper.toResponse(employee);
+
+        if (emailTaken(request.getEmail(), id)) {
+            throw new ConflictException("Employee with email already exists");
+        }
+
+        EmployeeResponse previous = employeeMapper.toResponse(employee);
+        employeeMapper.applyUpdate(employee, request);
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        return publishChange(saved, ChangeType.UPDATED, previous);
     }
 
     @Override
-    public EmployeeResponse update(UUID id, EmployeeUpdateRequest request) {
+    public EmployeeResponse patch(UUID id, JsonNode mergePatch, Long expectedVersion) {
+        shards.bind(shards.shardOf(id));
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Employee not found"));
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new PreconditionFailedException("Employee was modified since it was read");
+        }
 
-        if (employeeRepository.existsByEmailIgnoreCaseAndIdNot(request.getEmail(), id)) {
+        EmployeeUpdateRequest merged = mergePatcher.apply(mergePatch, employeeMapper.toUpdateRequest(employee));
+        if (!merged.getEmail().equalsIgnoreCase(employee.getEmail())
+                && emailTaken(merged.getEmail(), id)) {
             throw new ConflictException("Employee with email already exists");
         }
 
-        employeeMapper.applyUpdate(employee, request);
-        Employee saved = employeeRepository.save(employee);
-        return employeeMapper.toResponse(saved);
+        // Employee is @DynamicUpdate: only columns whose value changed are written, and a no-op patch writes nothing.
+        EmployeeResponse previous = employeeMapper.toResponse(employee);
+        employeeMapper.applyUpdate(employee, merged);
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        if (previous.getVersion().equals(saved.getVersion())) {
+            return employeeMapper.toResponse(saved);
+        }
+        return publishChange(saved, ChangeType.UPDATED, previous);
+    }
+
+    private EmployeeResponse updateIfVersionMatches(UUID id, EmployeeUpdateRequest request, long expectedVersion) {
+        // Read only for the audit trail, which records the state the update replaces; the version is checked by the
+        // update itself.
+        Employee current = employeeRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Employee not found"));
+        EmployeeResponse previous = employeeMapper.toResponse(current);
+
+        Employee changes = new Employee();
+        employeeMapper.applyUpdate(changes, request);
+        if (shards.isSharded() && emailTaken(request.getEmail(), id)) {
+            throw new ConflictException("Employee with email already exists");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int updated;
+        try {
+            // The version check and the write are one conditional statement; a duplicate email is caught by the unique index.
+            updated = employeeRepository.updateIfVersionMatches(id, expectedVersion, changes, now);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ConflictException("Employee with email already exists");
+        }
+        if (updated == 0) {
+            throw new PreconditionFailedException("Employee was modified since it was read");
+        }
+
+        // The update cleared the persistence context, so the row read above is detached and becomes the row as written
+        // without being read back.
+        employeeMapper.applyUpdate(current, request);
+        current.setUpdatedAt(now);
+        current.setVersion(expectedVersion + 1);
+        return publishChange(current, ChangeType.UPDATED, previous);
     }
 
     @Override
     public void softDelete(UUID id) {
+        shards.bind(shards.shardOf(id));
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Employee not found"));
 
+        if (employee.getStatus() == EmployeeStatus.INACTIVE) {
+            return;
+        }
+        EmployeeResponse previous = employeeMapper.toResponse(employee);
+        employee.setStatus(EmployeeStatus.INACTIVE);
+        Employee saved = employeeRepository.saveAndFlush(employee);
+        publishChange(saved, ChangeType.UPDATED, previous);
+    }
+
+    @Override
+    public EmployeeBatchResponse batch(EmployeeBatchRequest request) {
+        // Nothing is written until the single flush below, so all inserts and updates go out as JDBC batches. The
+        // checks therefore read the pre-batch state; changes made earlier in the batch are tracked in memory instead.
+        entityManager.setFlushMode(FlushModeType.COMMIT);
+
+        List<EmployeeBatchOperation> operations = request.getOperations();
+        int shard = batchShard(operations);
+        shards.bind(shard);
+        Map<UUID, Employee> targets = loadTargets(operations);
+        Map<UUID, EmployeeResponse> previous = new HashMap<>();
+        targets.forEach((id, employee) -> previous.put(id, employeeMapper.toResponse(employee)));
+        Map<String, UUID> emailOwners = loadEmailOwners(operations);
+        Set<String> releasedEmails = new HashSet<>();
+
+        List<EmployeeBatchResult> results = new ArrayList<>(operations.size());
+        List<Employee> written = new ArrayList<>(operations.size());
+        Set<Employee> created = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            EmployeeBatchOperation operation = operations.get(i);
+            try {
+                Employee employee = apply(operation, shard, targets, emailOwners, releasedEmails);
+                results.add(new EmployeeBatchResult(i, operation.type(), successStatus(operation).value()));
+                written.add(employee);
+                if (operation instanceof EmployeeBatchOperation.Create) {
+                    created.add(employee);
+                }
+            } catch (NotFoundException | ConflictException ex) {
+                if (request.getMode() == BatchMode.ATOMIC) {
+                    throw withIndex(i, ex);
+                }
+                results.add(failure(i, operation, ex));
+                written.add(null);
+            }
+        }
+
+        employeeRepository.flush();
+        for (int i = 0; i < results.size(); i++) {
+            Employee employee = written.get(i);
+            if (employee != null) {
+                results.get(i).setId(employee.getId());
+                if (!(operations.get(i) instanceof EmployeeBatchOperation.Delete)) {
+                    results.get(i).setItem(employeeMapper.toResponse(employee));
+                }
+            }
+        }
+        // One event per employee with its final state, even if the batch touched it several times.
+        Set<Employee> published = new HashSet<>();
+        for (int i = 0; i < written.size(); i++) {
+            Employee employee = written.get(i);
+            if (employee != null && published.add(employee)) {
+                ChangeType type = created.contains(employee) ? ChangeType.CREATED : ChangeType.UPDATED;
+                eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getId(), type,
+                        employeeMapper.toResponse(employee), previous.get(employee.getId())));
+            }
+        }
+        return new EmployeeBatchResponse(request.getMode(), results);
+    }
+
+    private PageResponse<EmployeeResponse> toPageResponse(Page<EmployeeResponse> page, Pageable pageable,
+                                                          boolean expandDepartment) {
+        List<EmployeeResponse> items = page.getContent();
+        if (expandDepartment) {
+            departmentExpander.expand(items);
+        }
+        return new PageResponse<>(
+                items,
+                new PageMeta(pageable.getPageNumber(), pageable.getPageSize(), page.getTotalElements(), page.getTotalPages())
+        );
+    }
+
+    private EmployeeResponse publishChange(Employee saved, ChangeType type, EmployeeResponse previous) {
+        EmployeeResponse response = employeeMapper.toResponse(saved);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(saved.getId(), type, employeeMapper.toResponse(saved), previous));
+        return response;
+    }
+
+    private Employee apply(EmployeeBatchOperation operation, int shard, Map<UUID, Employee> targets,
+                           Map<String, UUID> emailOwners, Set<String> releasedEmails) {
+        if (operation instanceof EmployeeBatchOperation.Create create) {
+            claimEmail(emailOwners, releasedEmails, create.getEmployee().getEmail(), null);
+            Employee employee = employeeMapper.toNewEntity(create.getEmployee());
+            employee.setId(shards.newId(shard));
+            Employee saved = employeeRepository.save(employee);
+            emailOwners.put(normalizeEmail(saved.getEmail()), saved.getId());
+            return saved;
+        }
+        if (operation instanceof EmployeeBatchOperation.Update update) {
+            Employee employee = target(targets, update.getId());
+            String previousEmail = normalizeEmail(employee.getEmail());
+            claimEmail(emailOwners, releasedEmails, update.getEmployee().getEmail(), employee.getId());
+            employeeMapper.applyUpdate(employee, update.getEmployee());
+            if (emailOwners.remove(previousEmail, employee.getId()) && !previousEmail.equals(normalizeEmail(employee.getEmail()))) {
+                releasedEmails.add(previousEmail);
+            }
+            emailOwners.put(normalizeEmail(employee.getEmail()), employee.getId());
+            return employee;
+        }
+        EmployeeBatchOperation.Delete delete = (EmployeeBatchOperation.Delete) operation;
+        Employee employee = target(targets, delete.getId());
         employee.setStatus(EmployeeStatus.INACTIVE);
-        employeeRepository.save(employee);
+        return employee;
+    }
+
+    private Map<UUID, Employee> loadTargets(List<EmployeeBatchOperation> operations) {
+        Set<UUID> ids = new HashSet<>();
+        for (EmployeeBatchOperation operation : operations) {
+            if (operation instanceof EmployeeBatchOperation.Update update) {
+                ids.add(update.getId());
+            } else if (operation instanceof EmployeeBatchOperation.Delete delete) {
+                ids.add(delete.getId());
+            }
+        }
+        Map<UUID, Employee> targets = new HashMap<>();
+        for (List<UUID> chunk : chunks(ids)) {
+            employeeRepository.findAllById(chunk).forEach(e -> targets.put(e.getId(), e));
+        }
+        return targets;
+    }
+
+    private Map<String, UUID> loadEmailOwners(List<EmployeeBatchOperation> operations) {
+        Set<String> emails = new HashSet<>();
+        for (EmployeeBatchOperation operation : operations) {
+            if (operation instanceof EmployeeBatchOperation.Create create) {
+                emails.add(normalizeEmail(create.getEmployee().getEmail()));
+            } else if (operation instanceof EmployeeBatchOperation.Update update) {
+                emails.add(normalizeEmail(update.getEmployee().getEmail()));
+            }
+        }
+        Map<String, UUID> owners = new HashMap<>();
+        for (List<EmployeeEmailOwner> fromShard : shards.scatter(shard -> {
+            List<EmployeeEmailOwner> found = new ArrayList<>();
+            for (List<String> chunk : chunks(emails)) {
+                found.addAll(employeeRepository.findEmailOwners(chunk));
+            }
+            return found;
+        })) {
+            // Rows written before emails were stored lower-cased match through the column's case-insensitive collation.
+            fromShard.forEach(owner -> owners.put(normalizeEmail(owner.getEmail()), owner.getId()));
+        }
+        return owners;
+    }
+
+    /**
+     * The shard a batch runs on: that of its update and delete targets, which must share one so the batch stays a
+     * single transaction. Batches that only create employees go to a random shard.
+     */
+    private int batchShard(List<EmployeeBatchOperation> operations) {
+        Integer shard = null;
+        for (EmployeeBatchOperation operation : operations) {
+            UUID target = operation instanceof EmployeeBatchOperation.Update update ? update.getId()
+                    : operation instanceof EmployeeBatchOperation.Delete delete ? delete.getId() : null;
+            if (target == null) {
+                continue;
+            }
+            int targetShard = shards.shardOf(target);
+            if (shard != null && shard != targetShard) {
+                throw new InvalidRequestException("Batch updates and deletes must target employees on the same shard; "
+                        + "split the batch into one request per employee");
+            }
+            shard = targetShard;
+        }
+        return shard != null ? shard : shards.shardOf(UUID.randomUUID());
+    }
+
+    /**
+     * Sorted page across all shards: every shard returns its first {@code offset + size} matching rows in the requested
+     * order, a k-way merge picks the page, and the per-shard counts add up to the total.
+     */
+    private Page<EmployeeResponse> listAcrossShards(Specification<Employee> spec, Pageable pageable) {
+        Sort sort = EmployeeOrdering.withIdTiebreak(pageable.getSort());
+        Comparator<Employee> order = EmployeeOrdering.comparator(sort);
+        int window = Math.toIntExact(pageable.getOffset() + pageable.getPageSize());
+        List<Page<Employee>> pages = shards.scatter(shard ->
+                employeeRepository.findAll(spec, PageRequest.of(0, window, sort)));
+
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        List<Employee> rows = Shards.merge(pages.stream().map(Page::getContent).toList(), order, pageable.getOffset(),
+                pageable.getPageSize());
+        return new PageImpl<>(rows.stream().map(employeeMapper::toResponse).toList(), pageable, total);
+    }
+
+    private boolean readsFromPrimary() {
+        return readYourWrites != null && readYourWrites.mustReadFromPrimary();
+    }
+
+    private boolean emailTaken(String email, UUID exceptId) {
+        // The unique index only covers one shard, so every shard is asked.
+        return shards.scatter(shard -> exceptId == null
+                ? employeeRepository.existsByEmailIgnoreCase(email)
+                : employeeRepository.existsByEmailIgnoreCaseAndIdNot(email, exceptId)).contains(true);
+    }
+
+    private static Employee target(Map<UUID, Employee> targets, UUID id) {
+        Employee employee = targets.get(id);
+        if (employee == null) {
+            throw new NotFoundException("Employee not found");
+        }
+        return employee;
+    }
+
+    private void claimEmail(Map<String, UUID> emailOwners, Set<String> releasedEmails, String email, UUID claimant) {
+        String normalized = normalizeEmail(email);
+        UUID owner = emailOwners.get(normalized);
+        if (owner != null && !owner.equals(claimant)) {
+            throw new ConflictException("Employee with email already exists");
+        }
+        if (releasedEmails.contains(normalized)) {
+            // Hibernate flushes inserts before updates; write out the update that freed this email first.
+            employeeRepository.flush();
+            releasedEmails.clear();
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static HttpStatus successStatus(EmployeeBatchOperation operation) {
+        return switch (operation.type()) {
+            case CREATE -> HttpStatus.CREATED;
+            case UPDATE -> HttpStatus.OK;
+            case DELETE -> HttpStatus.NO_CONTENT;
+        };
+    }
+
+    private static EmployeeBatchResult failure(int index, EmployeeBatchOperation operation, RuntimeException ex) {
+        boolean notFound = ex instanceof NotFoundException;
+        HttpStatus status = notFound ? HttpStatus.NOT_FOUND : HttpStatus.CONFLICT;
+        EmployeeBatchResult result = new EmployeeBatchResult(index, operation.type(), status.value());
+        result.setCode(notFound ? "NOT_FOUND" : "CONFLICT");
+        result.setMessage(ex.getMessage());
+        if (operation instanceof EmployeeBatchOperation.Update update) {
+            result.setId(update.getId());
+        } else if (operation instanceof EmployeeBatchOperation.Delete delete) {
+            result.setId(delete.getId());
+        }
+        return result;
+    }
+
+    private static RuntimeException withIndex(int index, RuntimeException ex) {
+        String message = "operations[" + index + "]: " + ex.getMessage();
+        return ex instanceof NotFoundException ? new NotFoundException(message) : new ConflictException(message);
+    }
+
+    private Map<UUID, EmployeeResponse> findAllById(Collection<UUID> ids) {
+        Map<Integer, Set<UUID>> byShard = new HashMap<>();
+        for (UUID id : ids) {
+            byShard.computeIfAbsent(shards.shardOf(id), s -> new LinkedHashSet<>()).add(id);
+        }
+        Map<UUID, EmployeeResponse> found = new HashMap<>();
+        for (List<EmployeeResponse> fromShard : shards.scatter(shard -> {
+            List<EmployeeResponse> loaded = new ArrayList<>();
+            for (List<UUID> chunk : chunks(byShard.getOrDefault(shard, Set.of()))) {
+                employeeRepository.findAllById(chunk).forEach(e -> loaded.add(employeeMapper.toResponse(e)));
+            }
+            return loaded;
+        })) {
+            fromShard.forEach(e -> found.put(e.getId(), e));
+        }
+        return found;
+    }
+
+    private <T> List<List<T>> chunks(Collection<T> values) {
+        List<T> all = List.copyOf(values);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += inQueryChunkSize) {
+            chunks.add(all.subList(from, Math.min(from + inQueryChunkSize, all.size())));
+        }
+        return chunks;
     }
 }
@@ -0,0 +1,258 @@
+package com.ems.idempotency.service;
+
+import com.ems.common.config.CorrelationIdFilter;
+import com.ems.common.exception.ErrorBodies;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Honours the {@code Idempotency-Key} header on POSTs to {@code ems.idempotency.paths}: the first request with a key
+ * runs and its response is kept by {@link IdempotencyStore}; retries with the same key and body get that response back
+ * with {@code Idempotent-Replayed: true} and never reach the controller. Keys are scoped to the path and the
+ * authenticated principal. Anonymous callers all share one scope, so their key only matches a request with the same
+ * body as well: a replayed response then tells the caller nothing it did not send itself.
+ * <ul>
+ *     <li>Same key, different body: 422 for authenticated callers.</li>
+ *     <li>Same key while the original is still running: waits for it, then 409 after {@code wait-timeout}.</li>
+ *     <li>Body larger than {@code max-body-size}: 413, since the body is held in memory.</li>
+ * </ul>
+ */
+@Component
+// Inside the concurrency limit and the request deadline, and after Spring Security so the principal is known.
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+    public static final String REPLAYED_HEADER_NAME = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ErrorBodies errorBodies = new ErrorBodies();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.rejected = counter(meterRegistry, "rejected");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(HEADER_NAME) == null
+                || !properties.getPaths().contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER_NAME);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            rejected.increment();
+            error(request, response, HttpStatus.BAD_REQUEST, "VALIDATION_ERROR",
+                    HEADER_NAME + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        int maxBodySize = (int) Math.min(properties.getMaxBodySize().toBytes(), Integer.MAX_VALUE - 1);
+        // A chunked body declares no length; reading one byte past the limit tells whether it is too large.
+        byte[] body = request.getContentLengthLong() <= maxBodySize
+                ? request.getInputStream().readNBytes(maxBodySize + 1)
+                : null;
+        if (body == null || body.length > maxBodySize) {
+            rejected.increment();
+            error(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "PAYLOAD_TOO_LARGE",
+                    "Requests with an " + HEADER_NAME + " may have a body of at most " + properties.getMaxBodySize());
+            return;
+        }
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+        String requestHash = IdempotencyStore.hash(body);
+        String principal = principal();
+        String key = principal != null
+                ? "user:" + principal + " " + request.getRequestURI() + " " + idempotencyKey
+                : "anonymous " + request.getRequestURI() + " " + idempotencyKey + " " + requestHash;
+        boolean durable = !properties.getMemoryOnlyPaths().contains(request.getRequestURI());
+
+        IdempotencyStore.Claim claim = store.claim(key, requestHash, durable);
+        if (claim instanceof IdempotencyStore.Replay replay) {
+            replayed.increment();
+            IdempotencyStore.StoredResponse stored = replay.response();
+            response.setStatus(stored.status());
+            if (stored.contentType() != null) {
+                response.setContentType(stored.contentType());
+            }
+            stored.headers().forEach(response::setHeader);
+            response.setHeader(REPLAYED_HEADER_NAME, "true");
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        } else if (claim instanceof IdempotencyStore.Mismatch) {
+            rejected.increment();
+            error(request, response, HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED",
+                    HEADER_NAME + " was already used for a different request");
+        } else if (claim instanceof IdempotencyStore.Busy) {
+            rejected.increment();
+            error(request, response, HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_USE",
+                    "A request with this " + HEADER_NAME + " is still being processed");
+        } else if (claim instanceof IdempotencyStore.Lead lead) {
+            executed.increment();
+            ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+            IdempotencyStore.StoredResponse stored = null;
+            try {
+                filterChain.doFilter(cachedRequest, cachingResponse);
+                stored = new IdempotencyStore.StoredResponse(cachingResponse.getStatus(), cachingResponse.getContentType(),
+                        replayedHeaders(cachingResponse), cachingResponse.getContentAsByteArray());
+            } finally {
+                store.complete(lead, stored);
+                cachingResponse.copyBodyToResponse();
+            }
+        } else {
+            executed.increment();
+            filterChain.doFilter(cachedRequest, response);
+        }
+    }
+
+    private void error(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String code,
+                       String message) throws IOException {
+        Object cid = request.getAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE);
+        byte[] body = errorBodies.render(status, code, message, request.getRequestURI(), cid != null ? cid.toString() : null);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : properties.getReplayedHeaders()) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                ? authentication.getName()
+                : null;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("ems.idempotency.requests")
+                .description("Requests with an Idempotency-Key by whether they ran, were replayed or were rejected")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Serves a body that was already read, so the controller can read it again.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory: it is available at once and never blocks.
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
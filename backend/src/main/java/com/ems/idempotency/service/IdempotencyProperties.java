@@ -0,0 +1,139 @@
+package com.ems.idempotency.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "ems.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Request paths whose POSTs honour an {@code Idempotency-Key} header.
+     */
+    private List<String> paths = new ArrayList<>(List.of("/api/v1/employees", "/api/v1/departments", "/api/v1/auth/register"));
+
+    /**
+     * How long a response is replayed to retries of its request.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Most responses kept in memory; requests beyond that are processed without replay protection until entries expire.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * How long a duplicate waits for the original request to finish before it is answered with 409.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Also store responses in the {@code idempotency_records} table, so retries are replayed after a restart and by
+     * other instances once the original has completed.
+     */
+    private boolean persist = false;
+
+    /**
+     * Paths whose responses are kept in memory only, even with {@code persist} enabled, because they carry credentials:
+     * registration answers with an access token.
+     */
+    private List<String> memoryOnlyPaths = new ArrayList<>(List.of("/api/v1/auth/register"));
+
+    private Duration cleanupInterval = Duration.ofMinutes(5);
+
+    /**
+     * Largest request body accepted with an {@code Idempotency-Key}; the body is held in memory to hash it and hand it
+     * on. Larger requests get 413.
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    /**
+     * Response headers stored with a response and sent again when it is replayed.
+     */
+    private List<String> replayedHeaders = new ArrayList<>(List.of("Location", "ETag"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public boolean isPersist() {
+        return persist;
+    }
+
+    public void setPersist(boolean persist) {
+        this.persist = persist;
+    }
+
+    public List<String> getMemoryOnlyPaths() {
+        return memoryOnlyPaths;
+    }
+
+    public void setMemoryOnlyPaths(List<String> memoryOnlyPaths) {
+        this.memoryOnlyPaths = memoryOnlyPaths;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public DataSize getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    public List<String> getReplayedHeaders() {
+        return replayedHeaders;
+    }
+
+    public void setReplayedHeaders(List<String> replayedHeaders) {
+        this.replayedHeaders = replayedHeaders;
+    }
+}
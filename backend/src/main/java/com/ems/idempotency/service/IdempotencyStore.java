@@ -0,0 +1,281 @@
+package com.ems.idempotency.service;
+
+import com.ems.common.deadline.RequestDeadline;
+import com.ems.idempotency.entity.IdempotencyRecord;
+import com.ems.idempotency.repository.IdempotencyRecordRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Responses to requests made with an {@code Idempotency-Key}, kept in memory for {@code ttl} and optionally in the
+ * database. The first request for a key claims it and runs; requests with the same key wait for it and get its response.
+ * Only successful (2xx) responses are kept: after a rejected request, a server error or a failure to respond, the next
+ * request with the key runs again.
+ * <p>
+ * Waiting for a request in progress only works within one instance. With {@code persist} enabled, other instances see
+ * the response once it is stored, unless the request was claimed as not durable: responses that carry credentials, such
+ * as the access token issued on registration, never leave memory.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    /**
+     * The response to replay for a key.
+     */
+    public record StoredResponse(int status, String contentType, Map<String, String> headers, byte[] body) {
+    }
+
+    /**
+     * What a request with a key should do.
+     */
+    public sealed interface Claim {
+    }
+
+    /**
+     * Run the request and hand its response to {@link #complete}.
+     */
+    public record Lead(String key, Entry entry) implements Claim {
+    }
+
+    /**
+     * Answer with this response without running the request.
+     */
+    public record Replay(StoredResponse response) implements Claim {
+    }
+
+    /**
+     * The key was used for a request with a different body.
+     */
+    public record Mismatch() implements Claim {
+    }
+
+    /**
+     * The request holding the key did not finish within the wait timeout.
+     */
+    public record Busy() implements Claim {
+    }
+
+    /**
+     * The store is full; run the request without replay protection.
+     */
+    public record Bypass() implements Claim {
+    }
+
+    public static final class Entry {
+        private final String requestHash;
+        private final boolean durable;
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+        private volatile long expiresAtMillis = Long.MAX_VALUE;
+
+        private Entry(String requestHash, boolean durable) {
+            this.requestHash = requestHash;
+            this.durable = durable;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final IdempotencyProperties properties;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, PlatformTransactionManager transactionManager,
+                            TaskScheduler taskScheduler, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        Gauge.builder("ems.idempotency.entries", entries, Map::size)
+                .description("Idempotency keys held in memory")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (properties.isEnabled()) {
+            taskScheduler.scheduleWithFixedDelay(this::purge, properties.getCleanupInterval());
+        }
+    }
+
+    /**
+     * Claims {@code key} for a request with body hash {@code requestHash}. The response of a {@code durable} request is
+     * written to the database as well when {@code persist} is enabled.
+     */
+    public Claim claim(String key, String requestHash, boolean durable) {
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            Entry existing = entries.get(key);
+            if (existing == null) {
+                if (entries.size() >= properties.getMaxEntries()) {
+                    purgeMemory();
+                    if (entries.size() >= properties.getMaxEntries()) {
+                        return new Bypass();
+                    }
+                }
+                Entry mine = new Entry(requestHash, durable);
+                existing = entries.putIfAbsent(key, mine);
+                if (existing == null) {
+                    return properties.isPersist() && durable ? leadOrReplayStored(key, mine) : new Lead(key, mine);
+                }
+            }
+            if (existing.expiresAtMillis < System.currentTimeMillis()) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.requestHash.equals(requestHash)) {
+                return new Mismatch();
+            }
+            try {
+                StoredResponse response = existing.response.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (response != null) {
+                    return new Replay(response);
+                }
+                // The original was not kept; claim the key again.
+            } catch (TimeoutException ex) {
+                return new Busy();
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return new Busy();
+            }
+        }
+    }
+
+    /**
+     * Stores the response of a {@link Lead}, or releases the key if {@code response} is {@code null} or not a success.
+     */
+    public void complete(Lead lead, StoredResponse response) {
+        Entry entry = lead.entry();
+        if (response == null || response.status() < 200 || response.status() >= 300) {
+            entries.remove(lead.key(), entry);
+            entry.response.complete(null);
+            return;
+        }
+        entry.expiresAtMillis = System.currentTimeMillis() + properties.getTtl().toMillis();
+        entry.response.complete(response);
+        if (properties.isPersist() && entry.durable) {
+            persist(lead.key(), entry.requestHash, response);
+        }
+    }
+
+    public static String hash(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Claim leadOrReplayStored(String key, Entry mine) {
+        IdempotencyRecord stored;
+        try {
+            stored = transactionTemplate.execute(status -> repository.findById(recordId(key))
+                    .filter(r -> r.getExpiresAt().isAfter(OffsetDateTime.now()))
+                    .orElse(null));
+        } catch (RuntimeException ex) {
+            log.warn("Could not read stored idempotency record, running the request: {}", ex.getMessage());
+            return new Lead(key, mine);
+        }
+        if (stored == null) {
+            return new Lead(key, mine);
+        }
+        if (!stored.getRequestHash().equals(mine.requestHash)) {
+            entries.remove(key, mine);
+            mine.response.complete(null);
+            return new Mismatch();
+        }
+        StoredResponse response = new StoredResponse(stored.getStatus(), stored.getContentType(),
+                decodeHeaders(stored.getHeaders()), stored.getBody());
+        mine.expiresAtMillis = stored.getExpiresAt().toInstant().toEpochMilli();
+        mine.response.complete(response);
+        return new Replay(response);
+    }
+
+    private void persist(String key, String requestHash, StoredResponse response) {
+        OffsetDateTime now = OffsetDateTime.now();
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(recordId(key));
+        record.setRequestHash(requestHash);
+        record.setStatus(response.status());
+        record.setContentType(response.contentType());
+        record.setHeaders(encodeHeaders(response.headers()));
+        record.setBody(response.body());
+        record.setCreatedAt(now);
+        record.setExpiresAt(now.plus(properties.getTtl()));
+        try {
+            // The request has been answered; storing its response is not bound by the request's deadline.
+            RequestDeadline.withoutDeadline(() -> transactionTemplate.executeWithoutResult(status -> repository.save(record)));
+        } catch (RuntimeException ex) {
+            // The response is still replayed from memory.
+            log.warn("Could not store idempotency record: {}", ex.getMessage());
+        }
+    }
+
+    private void purge() {
+        purgeMemory();
+        if (properties.isPersist()) {
+            try {
+                int deleted = transactionTemplate.execute(status -> repository.deleteExpired(OffsetDateTime.now()));
+                log.debug("Deleted {} expired idempotency records", deleted);
+            } catch (RuntimeException ex) {
+                log.warn("Idempotency record cleanup failed", ex);
+            }
+        }
+    }
+
+    private void purgeMemory() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis < now);
+    }
+
+    private static String encodeHeaders(Map<String, String> headers) {
+        StringBuilder encoded = new StringBuilder();
+        // Header values cannot contain line breaks.
+        headers.forEach((name, value) -> encoded.append(name).append(": ").append(value).append('\n'));
+        return encoded.toString();
+    }
+
+    private static Map<String, String> decodeHeaders(String encoded) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (encoded != null) {
+            for (String line : encoded.split("\n")) {
+                int colon = line.indexOf(": ");
+                if (colon > 0) {
+                    headers.put(line.substring(0, colon), line.substring(colon + 2));
+                }
+            }
+        }
+        return headers;
+    }
+
+    private static String recordId(String key) {
+        // The key holds client identity; only its hash is written.
+        return hash(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
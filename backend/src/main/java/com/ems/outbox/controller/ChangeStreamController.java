@@ -0,0 +1,47 @@
+package com.ems.outbox.controller;
+
+import com.ems.outbox.service.ChangeStreamBroadcaster;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/events")
+public class ChangeStreamController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final ChangeStreamBroadcaster broadcaster;
+
+    public ChangeStreamController(ChangeStreamBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Browsers send {@code Last-Event-ID} on automatic reconnects; the query parameter lets a client resume on its
+     * first connection too.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventIdHeader,
+                             @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return broadcaster.subscribe(parseEventId(lastEventId));
+    }
+
+    private static Long parseEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            // Not one of ours; start from now.
+            return null;
+        }
+    }
+}
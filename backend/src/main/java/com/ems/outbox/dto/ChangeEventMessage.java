@@ -0,0 +1,89 @@
+package com.ems.outbox.dto;
+
+import com.ems.common.event.ChangeType;
+import com.ems.outbox.entity.AggregateType;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change as relayed from the outbox. Published on the in-process event bus and streamed to SSE clients.
+ * {@code id} is the event's change stream position; {@code payload} is the resource as the API returns it, or absent
+ * for deletions and bulk changes.
+ */
+public class ChangeEventMessage {
+
+    private long id;
+    private AggregateType aggregateType;
+    private UUID aggregateId;
+    private ChangeType type;
+    private OffsetDateTime occurredAt;
+
+    @JsonRawValue
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String payload;
+
+    public ChangeEventMessage() {
+    }
+
+    public ChangeEventMessage(long id, AggregateType aggregateType, UUID aggregateId, ChangeType type,
+                              OffsetDateTime occurredAt, String payload) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(AggregateType aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public void setType(ChangeType type) {
+        this.type = type;
+    }
+
+    public OffsetDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(OffsetDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+}
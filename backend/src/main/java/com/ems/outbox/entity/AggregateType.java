@@ -0,0 +1,6 @@
+package com.ems.outbox.entity;
+
+public enum AggregateType {
+    EMPLOYEE,
+    DEPARTMENT
+}
@@ -0,0 +1,123 @@
+package com.ems.outbox.entity;
+
+import com.ems.common.event.ChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A change written in the same transaction as the change itself. {@code position} is its place in the change stream;
+ * it is assigned by {@link com.ems.outbox.service.OutboxRelay} once the row has committed, so positions follow the
+ * order in which changes become visible, which ids do not.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_created_at", columnList = "created_at"),
+        @Index(name = "idx_outbox_events_stream_position", columnList = "stream_position", unique = true),
+        @Index(name = "idx_outbox_events_positioned_at", columnList = "positioned_at")
+})
+public class OutboxEvent {
+
+    // Generated in memory, so inserts batch; a database-generated id would cost a round trip per row.
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20, updatable = false)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20, updatable = false)
+    private ChangeType changeType;
+
+    @Column(name = "payload", length = 4000, updatable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "stream_position")
+    private Long position;
+
+    @Column(name = "positioned_at")
+    private OffsetDateTime positionedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public AggregateType getAggregateType() {
+        return aggregateType;
+    }
+
+    public void setAggregateType(AggregateType aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(UUID aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(ChangeType changeType) {
+        this.changeType = changeType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getPosition() {
+        return position;
+    }
+
+    public void setPosition(Long position) {
+        this.position = position;
+    }
+
+    public OffsetDateTime getPositionedAt() {
+        return positionedAt;
+    }
+
+    public void setPositionedAt(OffsetDateTime positionedAt) {
+        this.positionedAt = positionedAt;
+    }
+}
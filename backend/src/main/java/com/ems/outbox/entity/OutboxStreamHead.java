@@ -0,0 +1,36 @@
+package com.ems.outbox.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The last change stream position handed out. A single row; relays lock it while they assign positions, so positions
+ * are assigned by one relay at a time and every position up to {@code lastPosition} is committed.
+ */
+@Entity
+@Table(name = "outbox_stream_head")
+public class OutboxStreamHead {
+
+    public static final int ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private int id = ID;
+
+    @Column(name = "last_position", nullable = false)
+    private long lastPosition;
+
+    public int getId() {
+        return id;
+    }
+
+    public long getLastPosition() {
+        return lastPosition;
+    }
+
+    public void setLastPosition(long lastPosition) {
+        this.lastPosition = lastPosition;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ems.outbox.repository;
+
+import com.ems.outbox.entity.AggregateType;
+import com.ems.outbox.entity.OutboxEvent;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Committed events that have no stream position yet, oldest first.
+     */
+    List<OutboxEvent> findByPositionIsNullOrderByCreatedAtAscIdAsc(Pageable pageable);
+
+    List<OutboxEvent> findByPositionGreaterThanAndPositionLessThanEqualOrderByPositionAsc(long afterPosition, long upToPosition,
+                                                                                           Pageable pageable);
+
+    List<OutboxEvent> findByAggregateTypeAndPositionGreaterThanAndPositionLessThanEqualOrderByPositionAsc(
+            AggregateType aggregateType, long afterPosition, long upToPosition, Pageable pageable);
+
+    @Query("select min(o.position) from OutboxEvent o")
+    Long findMinPosition();
+
+    @Query("select max(o.position) from OutboxEvent o")
+    Long findMaxPosition();
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.positionedAt < :cutoff")
+    int deletePositionedBefore(@Param("cutoff") OffsetDateTime cutoff);
+}
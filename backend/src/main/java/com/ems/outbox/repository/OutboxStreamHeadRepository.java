@@ -0,0 +1,19 @@
+package com.ems.outbox.repository;
+
+import com.ems.outbox.entity.OutboxStreamHead;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxStreamHeadRepository extends JpaRepository<OutboxStreamHead, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from OutboxStreamHead h where h.id = :id")
+    Optional<OutboxStreamHead> findForUpdate(@Param("id") int id);
+}
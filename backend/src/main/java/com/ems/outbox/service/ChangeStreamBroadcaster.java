@@ -0,0 +1,269 @@
+package com.ems.outbox.service;
+
+import com.ems.outbox.dto.ChangeEventMessage;
+import com.ems.outbox.entity.OutboxEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans relayed change events out to Server-Sent Events subscribers. A subscriber that resumes with a
+ * {@code Last-Event-ID} first gets the missed events from the outbox table, then the live stream; events relayed
+ * while the replay is running are held back and de-duplicated by id so the client sees each event once, in order.
+ * A client that stops reading is disconnected once {@code subscriber-queue-size} events are waiting for it, and so is
+ * one whose replay runs long enough for that many live events to be held back.
+ */
+@Component
+public class ChangeStreamBroadcaster {
+
+    private static final String RESET_EVENT = "reset";
+
+    private final OutboxRelay relay;
+    private final TaskScheduler taskScheduler;
+    private final OutboxProperties properties;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+    private final Counter dropped;
+
+    public ChangeStreamBroadcaster(OutboxRelay relay, TaskScheduler taskScheduler, OutboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.relay = relay;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        Gauge.builder("ems.events.subscribers", subscribers, Set::size)
+                .description("Open change stream (SSE) connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("ems.events.subscribers.dropped")
+                .description("Change stream connections closed because the client fell too far behind")
+                .register(meterRegistry);
+        AtomicInteger threads = new AtomicInteger();
+        // One thread per subscriber being written to; a stalled client ties up only its own.
+        this.senders = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "ems-sse-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        // Register before reading the cursor: the relay advances the cursor before publishing, so every event is
+        // either at or below the cursor (replayed from the table) or held back until the replay has finished.
+        subscribers.add(subscriber);
+        long upTo = relay.cursor();
+        subscriber.startAfter(lastEventId != null ? lastEventId : upTo);
+        if (lastEventId != null && lastEventId < upTo) {
+            replay(subscriber, lastEventId, upTo);
+        }
+        subscriber.goLive();
+        return emitter;
+    }
+
+    @EventListener
+    public void onChange(ChangeEventMessage message) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.deliver(message);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::heartbeat, properties.getHeartbeatInterval());
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(Subscriber::disconnect);
+        subscribers.clear();
+        senders.shutdown();
+    }
+
+    private void replay(Subscriber subscriber, long afterId, long upTo) {
+        int limit = properties.getMaxReplay();
+        Long oldest = relay.oldestPosition();
+        if (oldest == null || oldest > afterId + 1) {
+            // Part of the history the client asks for has been purged.
+            subscriber.reset(upTo);
+            return;
+        }
+        List<OutboxEvent> missed = relay.positioned(afterId, upTo, limit + 1);
+        if (missed.size() > limit) {
+            subscriber.reset(upTo);
+            return;
+        }
+        missed.forEach(event -> subscriber.replayed(OutboxRelay.toMessage(event)));
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.ping();
+        }
+    }
+
+    /**
+     * One SSE connection. Events are queued and written by a sender thread, so the relay and the heartbeat never
+     * block on a client's socket; at most one sender drains a subscriber at a time, which keeps events in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>();
+        private final List<ChangeEventMessage> heldBack = new ArrayList<>();
+        private long lastQueuedId;
+        private int capacity;
+        private boolean live;
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void startAfter(long eventId) {
+            lastQueuedId = eventId;
+        }
+
+        synchronized void deliver(ChangeEventMessage message) {
+            if (closed) {
+                return;
+            }
+            if (!live) {
+                if (heldBack.size() >= properties.getSubscriberQueueSize()) {
+                    drop();
+                } else {
+                    heldBack.add(message);
+                }
+            } else if (pending.size() >= capacity) {
+                drop();
+            } else {
+                enqueue(message);
+            }
+        }
+
+        synchronized void replayed(ChangeEventMessage message) {
+            enqueue(message);
+        }
+
+        synchronized void goLive() {
+            live = true;
+            if (closed) {
+                heldBack.clear();
+                return;
+            }
+            heldBack.forEach(this::enqueue);
+            heldBack.clear();
+            // Room for the live stream on top of whatever the replay queued.
+            capacity = pending.size() + properties.getSubscriberQueueSize();
+        }
+
+        /**
+         * Tells the client its position is no longer in the history, so it must reload state before following the
+         * stream again.
+         */
+        synchronized void reset(long position) {
+            lastQueuedId = position;
+            pending.clear();
+            pending.add(SseEmitter.event().id(Long.toString(position)).name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON));
+            drain();
+        }
+
+        synchronized void ping() {
+            // Only when idle: queued events keep the connection alive as well as a comment would.
+            if (!closed && pending.isEmpty() && !draining) {
+                pending.add(SseEmitter.event().comment("keep-alive"));
+                drain();
+            }
+        }
+
+        private void enqueue(ChangeEventMessage message) {
+            if (closed || message.getId() <= lastQueuedId) {
+                return;
+            }
+            lastQueuedId = message.getId();
+            pending.add(SseEmitter.event()
+                    .id(Long.toString(message.getId()))
+                    .name(eventName(message))
+                    .data(message, MediaType.APPLICATION_JSON));
+            drain();
+        }
+
+        private void drain() {
+            if (!draining && !closed) {
+                draining = true;
+                senders.execute(this::sendPending);
+            }
+        }
+
+        private void sendPending() {
+            while (true) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = closed ? null : pending.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException ex) {
+                    disconnect();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * The client has fallen {@code subscriber-queue-size} events behind, live or while its replay ran. Its
+         * connection is closed rather than buffered without bound; it reconnects with {@code Last-Event-ID} and
+         * catches up from the outbox table.
+         */
+        private void drop() {
+            dropped.increment();
+            disconnect();
+        }
+
+        private void disconnect() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            subscribers.remove(this);
+            // Completing waits for a send in progress, which may be stuck on this very client.
+            senders.execute(emitter::complete);
+        }
+    }
+
+    private static String eventName(ChangeEventMessage message) {
+        return message.getAggregateType().name().toLowerCase(Locale.ROOT) + "." + message.getType().name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ems.outbox.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ems.outbox")
+public class OutboxProperties {
+
+    private Duration relayInterval = Duration.ofMillis(500);
+
+    private int relayBatchSize = 500;
+
+    private Duration retention = Duration.ofHours(24);
+
+    private Duration cleanupInterval = Duration.ofHours(1);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * Most events replayed to a resuming client; beyond that it is told to resynchronise instead.
+     */
+    private int maxReplay = 10_000;
+
+    /**
+     * Most events queued for one change stream client, and most live events held back while its replay runs. A
+     * client that falls further behind is disconnected and catches up by replay when it reconnects.
+     */
+    private int subscriberQueueSize = 1_000;
+
+    public Duration getRelayInterval() {
+        return relayInterval;
+    }
+
+    public void setRelayInterval(Duration relayInterval) {
+        this.relayInterval = relayInterval;
+    }
+
+    public int getRelayBatchSize() {
+        return relayBatchSize;
+    }
+
+    public void setRelayBatchSize(int relayBatchSize) {
+        this.relayBatchSize = relayBatchSize;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getStreamTimeout() {
+        return streamTimeout;
+    }
+
+    public void setStreamTimeout(Duration streamTimeout) {
+        this.streamTimeout = streamTimeout;
+    }
+
+    public int getMaxReplay() {
+        return maxReplay;
+    }
+
+    public void setMaxReplay(int maxReplay) {
+        this.maxReplay = maxReplay;
+    }
+
+    public int getSubscriberQueueSize() {
+        return subscriberQueueSize;
+    }
+
+    public void setSubscriberQueueSize(int subscriberQueueSize) {
+        this.subscriberQueueSize = subscriberQueueSize;
+    }
+}
@@ -0,0 +1,200 @@
+package com.ems.outbox.service;
+
+import com.ems.common.datasource.Shards;
+import com.ems.outbox.dto.ChangeEventMessage;
+import com.ems.outbox.entity.AggregateType;
+import com.ems.outbox.entity.OutboxEvent;
+import com.ems.outbox.entity.OutboxStreamHead;
+import com.ems.outbox.repository.OutboxEventRepository;
+import com.ems.outbox.repository.OutboxStreamHeadRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Gives committed outbox events their change stream position and publishes each one, in position order, as a
+ * {@link ChangeEventMessage} on the application event bus. Every instance relays every event to its own listeners,
+ * starting from the newest position at startup; the outbox table itself is the durable history.
+ * <p>
+ * Positions are assigned to events once their transaction has committed, in the order the relay first sees them. An
+ * event from a long-running transaction therefore gets a later position than events that committed before it, instead
+ * of being skipped while the relay waits for it. Relays on several instances take turns through a lock on
+ * {@link OutboxStreamHead}.
+ * <p>
+ * With sharding, every shard has its own outbox table, written in the same transaction as the change, and one stream
+ * numbered across all of them. The head lives on the home shard; positions up to it are committed on every shard.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxStreamHeadRepository streamHeadRepository;
+    private final Shards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskScheduler taskScheduler;
+    private final OutboxProperties properties;
+
+    private volatile long cursor;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxStreamHeadRepository streamHeadRepository,
+                       Shards shards, PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                       TaskScheduler taskScheduler, OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.streamHeadRepository = streamHeadRepository;
+        this.shards = shards;
+        // Not read-only: the relay must see the primary, not a lagging replica.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        cursor = head();
+        taskScheduler.scheduleWithFixedDelay(this::relay, properties.getRelayInterval());
+        taskScheduler.scheduleWithFixedDelay(this::purge, properties.getCleanupInterval());
+    }
+
+    /**
+     * Position of the last event handed to the bus. Advanced before the event is published.
+     */
+    public long cursor() {
+        return cursor;
+    }
+
+    public static ChangeEventMessage toMessage(OutboxEvent event) {
+        return new ChangeEventMessage(event.getPosition(), event.getAggregateType(), event.getAggregateId(),
+                event.getChangeType(), event.getCreatedAt(), event.getPayload());
+    }
+
+    void relay() {
+        try {
+            assignPositions();
+            publish();
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, retrying on the next run: {}", ex.getMessage());
+        }
+    }
+
+    private void assignPositions() {
+        transactionTemplate.executeWithoutResult(status -> {
+            OutboxStreamHead head = streamHeadRepository.findForUpdate(OutboxStreamHead.ID)
+                    // Another instance creating it at the same time fails this run on the primary key; the next run locks it.
+                    .orElseGet(() -> streamHeadRepository.save(new OutboxStreamHead()));
+            // A shard may have committed positions past the head if the head's own commit failed afterwards.
+            long position = Math.max(head.getLastPosition(), highestPosition());
+            // Other shards commit as they are numbered; the home shard last, in this transaction together with the head.
+            for (int shard = shards.count() - 1; shard >= 0; shard--) {
+                long after = position;
+                position = shards.write(shard, () -> number(after));
+            }
+            head.setLastPosition(position);
+        });
+    }
+
+    private long number(long after) {
+        List<OutboxEvent> unpositioned = outboxEventRepository.findByPositionIsNullOrderByCreatedAtAscIdAsc(
+                PageRequest.of(0, properties.getRelayBatchSize()));
+        OffsetDateTime now = OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        long position = after;
+        for (OutboxEvent event : unpositioned) {
+            event.setPosition(++position);
+            event.setPositionedAt(now);
+        }
+        return position;
+    }
+
+    private long highestPosition() {
+        return shards.scatter(shard -> outboxEventRepository.findMaxPosition()).stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+    }
+
+    private void publish() {
+        long upTo = head();
+        while (cursor < upTo) {
+            List<OutboxEvent> batch = positioned(cursor, upTo, properties.getRelayBatchSize());
+            if (batch.isEmpty()) {
+                // Purged before this instance got to them.
+                cursor = upTo;
+                return;
+            }
+            for (OutboxEvent event : batch) {
+                cursor = event.getPosition();
+                eventPublisher.publishEvent(toMessage(event));
+            }
+        }
+    }
+
+    /**
+     * The first {@code limit} events after position {@code after} and up to {@code upTo}, from all shards, in position
+     * order.
+     */
+    List<OutboxEvent> positioned(long after, long upTo, int limit) {
+        List<List<OutboxEvent>> perShard = transactionTemplate.execute(status -> shards.scatter(shard -> outboxEventRepository
+                .findByPositionGreaterThanAndPositionLessThanEqualOrderByPositionAsc(after, upTo, PageRequest.of(0, limit))));
+        return Shards.merge(perShard, Comparator.comparingLong(OutboxEvent::getPosition), 0, limit);
+    }
+
+    /**
+     * Like {@link #positioned(long, long, int)} but only events about {@code aggregateType}.
+     */
+    public List<OutboxEvent> positioned(AggregateType aggregateType, long after, long upTo, int limit) {
+        List<List<OutboxEvent>> perShard = transactionTemplate.execute(status -> shards.scatter(shard -> outboxEventRepository
+                .findByAggregateTypeAndPositionGreaterThanAndPositionLessThanEqualOrderByPositionAsc(aggregateType, after,
+                        upTo, PageRequest.of(0, limit))));
+        return Shards.merge(perShard, Comparator.comparingLong(OutboxEvent::getPosition), 0, limit);
+    }
+
+    /**
+     * Position of the oldest event still in the outbox on any shard, or {@code null} if there is none.
+     */
+    public Long oldestPosition() {
+        return transactionTemplate.execute(status -> shards.scatter(shard -> outboxEventRepository.findMinPosition())).stream()
+                .filter(Objects::nonNull)
+                .min(Long::compare)
+                .orElse(null);
+    }
+
+    /**
+     * The newest position handed out. Every event up to it has committed, on every shard, and an event that commits
+     * later gets a greater position, so a reader that has seen everything up to the head never misses an event by
+     * continuing after it.
+     */
+    public long head() {
+        return transactionTemplate.execute(status -> streamHeadRepository.findById(OutboxStreamHead.ID)
+                .map(OutboxStreamHead::getLastPosition)
+                .orElse(0L));
+    }
+
+    void purge() {
+        try {
+            OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.getRetention());
+            int removed = transactionTemplate.execute(status -> shards.scatterWrite(shard -> outboxEventRepository
+                    .deletePositionedBefore(cutoff))).stream().mapToInt(Integer::intValue).sum();
+            log.debug("Purged {} outbox events older than {}", removed, cutoff);
+        } catch (RuntimeException ex) {
+            log.warn("Outbox purge failed: {}", ex.getMessage());
+        }
+    }
+}
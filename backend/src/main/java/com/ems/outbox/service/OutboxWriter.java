@@ -0,0 +1,90 @@
+package com.ems.outbox.service;
+
+import com.ems.common.event.ChangeType;
+import com.ems.department.event.DepartmentChangedEvent;
+import com.ems.employee.event.EmployeeChangedEvent;
+import com.ems.employee.event.EmployeesReassignedEvent;
+import com.ems.outbox.entity.AggregateType;
+import com.ems.outbox.entity.OutboxEvent;
+import com.ems.outbox.repository.OutboxEventRepository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends domain events to the outbox table. The listeners run synchronously inside the writing transaction, so an
+ * outbox row exists if and only if the change it describes commits.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        append(AggregateType.EMPLOYEE, event.getEmployeeId(), event.getType(), event.getEmployee());
+    }
+
+    @EventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        append(AggregateType.DEPARTMENT, event.getDepartmentId(), event.getType(), event.getDepartment());
+    }
+
+    /**
+     * Payload-less UPDATED events for employees changed by a bulk statement; the inserts go out in JDBC batches.
+     */
+    @EventListener
+    public void onEmployeesReassigned(EmployeesReassignedEvent event) {
+        OffsetDateTime now = now();
+        List<OutboxEvent> rows = new ArrayList<>(event.getEmployeeIds().size());
+        for (UUID employeeId : event.getEmployeeIds()) {
+            rows.add(row(AggregateType.EMPLOYEE, employeeId, ChangeType.UPDATED, null, now));
+        }
+        outboxEventRepository.saveAll(rows);
+    }
+
+    private void append(AggregateType aggregateType, UUID aggregateId, ChangeType type, Object payload) {
+        outboxEventRepository.save(row(aggregateType, aggregateId, type, toJson(payload), now()));
+    }
+
+    private static OutboxEvent row(AggregateType aggregateType, UUID aggregateId, ChangeType type, String payload,
+                                   OffsetDateTime createdAt) {
+        OutboxEvent row = new OutboxEvent();
+        row.setAggregateType(aggregateType);
+        row.setAggregateId(aggregateId);
+        row.setChangeType(type);
+        row.setPayload(payload);
+        row.setCreatedAt(createdAt);
+        return row;
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialise outbox payload", ex);
+        }
+    }
+
+    private static OffsetDateTime now() {
+        return OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,278 @@
+package com.ems.readmodel.service;
+
+import com.ems.common.datasource.Shards;
+import com.ems.employee.dto.EmployeeResponse;
+import com.ems.employee.dto.ReadSource;
+import com.ems.employee.entity.Employee;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+import com.ems.employee.event.EmployeeChangedEvent;
+import com.ems.employee.event.EmployeesReassignedEvent;
+import com.ems.employee.mapper.EmployeeMapper;
+import com.ems.employee.repository.EmployeeRepository;
+import com.ems.outbox.entity.AggregateType;
+import com.ems.outbox.entity.OutboxEvent;
+import com.ems.outbox.service.OutboxRelay;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.persistence.EntityManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in-memory copy of the employees table that answers list queries without the database. It is loaded in
+ * the background after startup, one id range per worker, and then kept current by committed local changes. A
+ * periodic catch-up follows the outbox change stream, whose positions are assigned in commit order, and picks up
+ * changes made by other instances and anything committed while the load was running, however late they commit. Until
+ * the first load completes, list queries go to the database.
+ */
+@Component
+public class EmployeeReadModel {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeReadModel.class);
+    private static final int ID_RANGES = 16;
+
+    private final EmployeeRepository employeeRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final ReadModelProperties properties;
+    private final Shards shards;
+    private final OutboxRelay outboxRelay;
+    private final Timer loadTimer;
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private EmployeeRows rows;
+    private long position;
+    private volatile boolean ready;
+
+    public EmployeeReadModel(EmployeeRepository employeeRepository, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager, TaskScheduler taskScheduler,
+                             ReadModelProperties properties, Shards shards, OutboxRelay outboxRelay,
+                             MeterRegistry meterRegistry) {
+        this.employeeRepository = employeeRepository;
+        this.entityManager = entityManager;
+        // Deliberately not read-only: with replica routing enabled the model must load from the primary.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.shards = shards;
+        this.outboxRelay = outboxRelay;
+        this.loadTimer = Timer.builder("ems.readmodel.load").register(meterRegistry);
+        Gauge.builder("ems.readmodel.rows", this, EmployeeReadModel::size).register(meterRegistry);
+    }
+
+    /**
+     * Whether a list query asking for {@code source} (or the configured default when {@code null}) is answered here.
+     */
+    public boolean serves(ReadSource source) {
+        ReadSource effective = source != null ? source : properties.getDefaultSource();
+        return effective == ReadSource.MEMORY && ready;
+    }
+
+    public Page<EmployeeResponse> query(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status) {
+        lock.readLock().lock();
+        try {
+            return rows.query(pageable, departmentId, role, status);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (shards.isSharded()) {
+            log.warn("Employee read model does not support sharding, list queries stay on the database");
+            return;
+        }
+        startLoad();
+        taskScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                catchUp();
+            } catch (RuntimeException ex) {
+                log.warn("Employee read model catch-up failed: {}", ex.getMessage());
+            }
+        }, properties.getCatchUpInterval());
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            rows.upsert(event.getEmployee());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeesReassigned(EmployeesReassignedEvent event) {
+        if (!ready) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            rows.reassign(event.getEmployeeIds(), event.getDepartmentId(), event.getUpdatedAt());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void startLoad() {
+        Thread loader = new Thread(() -> {
+            try {
+                loadTimer.record(this::load);
+            } catch (RuntimeException ex) {
+                log.warn("Employee read model could not be loaded, list queries stay on the database: {}", ex.getMessage());
+            }
+        }, "ems-read-model-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void load() {
+        // Changes that commit while the ranges are read get later positions and are picked up by the first catch-up.
+        long start = outboxRelay.head();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, properties.getLoadParallelism()), r -> {
+            Thread thread = new Thread(r, "ems-read-model-load-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<List<EmployeeResponse>>> ranges = new ArrayList<>(ID_RANGES);
+            for (int range = 0; range < ID_RANGES; range++) {
+                UUID from = rangeStart(range);
+                UUID to = range + 1 < ID_RANGES ? rangeStart(range + 1) : null;
+                ranges.add(workers.submit(() -> loadRange(from, to)));
+            }
+            // Appending in range order keeps rows in id order.
+            EmployeeRows loaded = new EmployeeRows();
+            for (Future<List<EmployeeResponse>> range : ranges) {
+                range.get().forEach(loaded::upsert);
+            }
+
+            lock.writeLock().lock();
+            try {
+                rows = loaded;
+                position = start;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Employee read model loaded with {} rows", loaded.size());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the employee read model", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause().getMessage(), ex.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        catchUp();
+    }
+
+    private List<EmployeeResponse> loadRange(UUID from, UUID to) {
+        return transactionTemplate.execute(tx -> {
+            List<EmployeeResponse> loaded = new ArrayList<>();
+            UUID after = null;
+            List<Employee> page;
+            do {
+                page = employeeRepository.findIdRange(from, to, after, PageRequest.of(0, properties.getPageSize()));
+                page.forEach(e -> loaded.add(employeeMapper.toResponse(e)));
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getId();
+                }
+                entityManager.clear();
+            } while (page.size() == properties.getPageSize());
+            return loaded;
+        });
+    }
+
+    private synchronized void catchUp() {
+        if (!ready) {
+            return;
+        }
+        long head = outboxRelay.head();
+        List<OutboxEvent> events;
+        do {
+            long after = currentPosition();
+            Long oldest = outboxRelay.oldestPosition();
+            if (after < head && (oldest == null || oldest > after + 1)) {
+                // Changes not applied yet have been purged from the stream; list queries use the database until reloaded.
+                log.warn("Employee read model fell behind the change stream retention, reloading");
+                ready = false;
+                startLoad();
+                return;
+            }
+            events = outboxRelay.positioned(AggregateType.EMPLOYEE, after, head, properties.getPageSize());
+            List<UUID> ids = events.stream().map(OutboxEvent::getAggregateId).distinct().toList();
+            List<Employee> changed = ids.isEmpty()
+                    ? List.of()
+                    : transactionTemplate.execute(tx -> employeeRepository.findAllById(ids));
+            lock.writeLock().lock();
+            try {
+                // Rows are read as they are now; upsert ignores any older than a local change applied meanwhile.
+                changed.forEach(e -> rows.upsert(employeeMapper.toResponse(e)));
+                position = events.size() == properties.getPageSize() ? events.get(events.size() - 1).getPosition() : head;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } while (events.size() == properties.getPageSize());
+    }
+
+    private long currentPosition() {
+        lock.readLock().lock();
+        try {
+            return position;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return rows != null ? rows.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static UUID rangeStart(int range) {
+        // Splits the id space on the leading hex digit; the database orders UUIDs as unsigned bytes.
+        return new UUID((long) range << 60, 0);
+    }
+}
@@ -0,0 +1,403 @@
+package com.ems.readmodel.service;
+
+import com.ems.employee.dto.EmployeeResponse;
+import com.ems.employee.entity.Employee;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.util.TypeInformation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Struct-of-arrays copy of the employees table. Rows are numbered in insertion order and never reused; designation
+ * and department are dictionary encoded, role and status stored as ordinals, and each department, role and status
+ * value has a {@link RowBitmap} of its rows. Not thread-safe; {@link EmployeeReadModel} guards access.
+ */
+final class EmployeeRows {
+
+    // Text columns use MySQL's case-insensitive collation, so the database sorts them ignoring case either way.
+    private static final Comparator<String> STRINGS = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+    // Enums are stored as strings, so the database sorts them by name.
+    private static final int[] ROLE_SORT_KEYS = sortKeys(EmployeeRole.values());
+    private static final int[] STATUS_SORT_KEYS = sortKeys(EmployeeStatus.values());
+
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private int size;
+    private long[] idHigh = new long[1024];
+    private long[] idLow = new long[1024];
+    private String[] firstName = new String[1024];
+    private String[] lastName = new String[1024];
+    private String[] email = new String[1024];
+    private String[] phone = new String[1024];
+    private int[] designation = new int[1024];
+    private long[] salaryCents = new long[1024];
+    private int[] department = new int[1024];
+    private byte[] role = new byte[1024];
+    private byte[] status = new byte[1024];
+    private long[] createdAt = new long[1024];
+    private long[] updatedAt = new long[1024];
+    private long[] version = new long[1024];
+
+    private final Map<UUID, Integer> rowById = new HashMap<>();
+    private final List<String> designations = new ArrayList<>();
+    private final Map<String, Integer> designationCodes = new HashMap<>();
+    private final List<UUID> departments = new ArrayList<>();
+    private final Map<UUID, Integer> departmentCodes = new HashMap<>();
+
+    private final RowBitmap all = new RowBitmap();
+    private final List<RowBitmap> byDepartment = new ArrayList<>();
+    private final RowBitmap[] byRole = bitmaps(EmployeeRole.values().length);
+    private final RowBitmap[] byStatus = bitmaps(EmployeeStatus.values().length);
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserts the employee or overwrites its row, unless the row already holds the same or a later state.
+     */
+    boolean upsert(EmployeeResponse employee) {
+        long updated = micros(employee.getUpdatedAt());
+        long newVersion = employee.getVersion() != null ? employee.getVersion() : 0;
+        Integer existing = rowById.get(employee.getId());
+        int row;
+        if (existing == null) {
+            row = append(employee.getId());
+        } else {
+            row = existing;
+            if (updated < updatedAt[row] || (updated == updatedAt[row] && newVersion <= version[row])) {
+                return false;
+            }
+            byDepartment.get(department[row]).remove(row);
+            byRole[role[row]].remove(row);
+            byStatus[status[row]].remove(row);
+        }
+
+        firstName[row] = employee.getFirstName();
+        lastName[row] = employee.getLastName();
+        email[row] = employee.getEmail();
+        phone[row] = employee.getPhone();
+        designation[row] = designationCode(employee.getDesignation());
+        salaryCents[row] = employee.getSalary().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        department[row] = departmentCode(employee.getDepartmentId());
+        role[row] = (byte) employee.getRole().ordinal();
+        status[row] = (byte) employee.getStatus().ordinal();
+        createdAt[row] = micros(employee.getCreatedAt());
+        updatedAt[row] = updated;
+        version[row] = newVersion;
+
+        byDepartment.get(department[row]).add(row);
+        byRole[role[row]].add(row);
+        byStatus[status[row]].add(row);
+        return true;
+    }
+
+    /**
+     * Applies a bulk department reassignment, which bumps the version of every moved row by one.
+     */
+    void reassign(List<UUID> ids, UUID departmentId, OffsetDateTime at) {
+        long updated = micros(at);
+        int code = departmentCode(departmentId);
+        for (UUID id : ids) {
+            Integer row = rowById.get(id);
+            if (row == null || updatedAt[row] >= updated) {
+                continue;
+            }
+            byDepartment.get(department[row]).remove(row);
+            department[row] = code;
+            byDepartment.get(code).add(row);
+            updatedAt[row] = updated;
+            version[row]++;
+        }
+    }
+
+    Page<EmployeeResponse> query(Pageable pageable, UUID departmentId, EmployeeRole role, EmployeeStatus status) {
+        RowOrder order = pageable.getSort().isSorted() ? order(pageable.getSort()) : null;
+        RowBitmap matches = matching(departmentId, role, status);
+        int total = matches.cardinality();
+        if (pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        int from = (int) pageable.getOffset();
+        int to = (int) Math.min((long) from + pageable.getPageSize(), total);
+        int[] rows;
+        if (order == null) {
+            rows = new int[to - from];
+            matches.copy(from, rows);
+        } else {
+            rows = Arrays.copyOfRange(TopRows.select(matches, order, to), from, to);
+        }
+
+        List<EmployeeResponse> items = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            items.add(response(row));
+        }
+        return new PageImpl<>(items, pageable, total);
+    }
+
+    private RowBitmap matching(UUID departmentId, EmployeeRole role, EmployeeStatus status) {
+        List<RowBitmap> filters = new ArrayList<>(3);
+        if (departmentId != null) {
+            Integer code = departmentCodes.get(departmentId);
+            filters.add(code != null ? byDepartment.get(code) : new RowBitmap());
+        }
+        if (role != null) {
+            filters.add(byRole[role.ordinal()]);
+        }
+        if (status != null) {
+            filters.add(byStatus[status.ordinal()]);
+        }
+        if (filters.isEmpty()) {
+            return all;
+        }
+        // Smallest first, so every intersection is bounded by the most selective filter.
+        filters.sort(Comparator.comparingInt(RowBitmap::cardinality));
+        RowBitmap result = filters.get(0);
+        for (int i = 1; i < filters.size(); i++) {
+            result = RowBitmap.and(result, filters.get(i));
+        }
+        return result;
+    }
+
+    private EmployeeResponse response(int row) {
+        EmployeeResponse response = new EmployeeResponse();
+        response.setId(new UUID(idHigh[row], idLow[row]));
+        response.setFirstName(firstName[row]);
+        response.setLastName(lastName[row]);
+        response.setEmail(email[row]);
+        response.setPhone(phone[row]);
+        response.setDesignation(designations.get(designation[row]));
+        response.setSalary(BigDecimal.valueOf(salaryCents[row], 2));
+        response.setDepartmentId(departments.get(department[row]));
+        response.setRole(EmployeeRole.values()[role[row]]);
+        response.setStatus(EmployeeStatus.values()[status[row]]);
+        response.setCreatedAt(timestamp(createdAt[row]));
+        response.setUpdatedAt(timestamp(updatedAt[row]));
+        response.setVersion(version[row]);
+        return response;
+    }
+
+    private RowOrder order(Sort sort) {
+        RowOrder result = null;
+        for (Sort.Order order : sort) {
+            RowOrder next = property(order.getProperty());
+            if (next == null) {
+                throw new PropertyReferenceException(order.getProperty(), TypeInformation.of(Employee.class), List.of());
+            }
+            if (order.isDescending()) {
+                RowOrder ascending = next;
+                next = (a, b) -> ascending.compare(b, a);
+            }
+            result = result == null ? next : result.then(next);
+        }
+        // Rows that compare equal keep a stable order across pages.
+        return result.then(this::compareIds);
+    }
+
+    private RowOrder property(String property) {
+        return switch (property) {
+            case "id" -> this::compareIds;
+            case "firstName" -> (a, b) -> STRINGS.compare(firstName[a], firstName[b]);
+            case "lastName" -> (a, b) -> STRINGS.compare(lastName[a], lastName[b]);
+            case "email" -> (a, b) -> STRINGS.compare(email[a], email[b]);
+            case "phone" -> (a, b) -> STRINGS.compare(phone[a], phone[b]);
+            case "designation" -> (a, b) -> STRINGS.compare(designations.get(designation[a]),
+                    designations.get(designation[b]));
+            case "salary" -> (a, b) -> Long.compare(salaryCents[a], salaryCents[b]);
+            case "departmentId" -> (a, b) -> compareUuids(departments.get(department[a]), departments.get(department[b]));
+            case "role" -> (a, b) -> Integer.compare(ROLE_SORT_KEYS[role[a]], ROLE_SORT_KEYS[role[b]]);
+            case "status" -> (a, b) -> Integer.compare(STATUS_SORT_KEYS[status[a]], STATUS_SORT_KEYS[status[b]]);
+            case "createdAt" -> (a, b) -> Long.compare(createdAt[a], createdAt[b]);
+            case "updatedAt" -> (a, b) -> Long.compare(updatedAt[a], updatedAt[b]);
+            case "version" -> (a, b) -> Long.compare(version[a], version[b]);
+            default -> null;
+        };
+    }
+
+    private int compareIds(int a, int b) {
+        // Same order as the database, which compares UUIDs as unsigned bytes.
+        int high = Long.compareUnsigned(idHigh[a], idHigh[b]);
+        return high != 0 ? high : Long.compareUnsigned(idLow[a], idLow[b]);
+    }
+
+    private static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private int append(UUID id) {
+        if (size == idHigh.length) {
+            grow(size * 2);
+        }
+        int row = size++;
+        idHigh[row] = id.getMostSignificantBits();
+        idLow[row] = id.getLeastSignificantBits();
+        rowById.put(id, row);
+        all.add(row);
+        return row;
+    }
+
+    private void grow(int capacity) {
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        firstName = Arrays.copyOf(firstName, capacity);
+        lastName = Arrays.copyOf(lastName, capacity);
+        email = Arrays.copyOf(email, capacity);
+        phone = Arrays.copyOf(phone, capacity);
+        designation = Arrays.copyOf(designation, capacity);
+        salaryCents = Arrays.copyOf(salaryCents, capacity);
+        department = Arrays.copyOf(department, capacity);
+        role = Arrays.copyOf(role, capacity);
+        status = Arrays.copyOf(status, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        version = Arrays.copyOf(version, capacity);
+    }
+
+    private int designationCode(String value) {
+        return designationCodes.computeIfAbsent(value, v -> {
+            designations.add(v);
+            return designations.size() - 1;
+        });
+    }
+
+    private int departmentCode(UUID value) {
+        return departmentCodes.computeIfAbsent(value, v -> {
+            departments.add(v);
+            byDepartment.add(new RowBitmap());
+            return departments.size() - 1;
+        });
+    }
+
+    private static long micros(OffsetDateTime timestamp) {
+        return timestamp != null ? ChronoUnit.MICROS.between(Instant.EPOCH, timestamp.toInstant()) : 0;
+    }
+
+    private OffsetDateTime timestamp(long micros) {
+        return OffsetDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), zone);
+    }
+
+    private static RowBitmap[] bitmaps(int count) {
+        RowBitmap[] bitmaps = new RowBitmap[count];
+        Arrays.setAll(bitmaps, i -> new RowBitmap());
+        return bitmaps;
+    }
+
+    private static int[] sortKeys(Enum<?>[] values) {
+        Enum<?>[] byName = values.clone();
+        Arrays.sort(byName, Comparator.comparing(Enum::name));
+        int[] keys = new int[values.length];
+        for (int i = 0; i < byName.length; i++) {
+            keys[byName[i].ordinal()] = i;
+        }
+        return keys;
+    }
+
+    @FunctionalInterface
+    interface RowOrder {
+
+        int compare(int a, int b);
+
+        default RowOrder then(RowOrder next) {
+            return (a, b) -> {
+                int result = compare(a, b);
+                return result != 0 ? result : next.compare(a, b);
+            };
+        }
+    }
+
+    /**
+     * Keeps the first {@code limit} rows of a bitmap in a bounded max-heap, so a page costs O(n log limit) instead of
+     * sorting every match.
+     */
+    private static final class TopRows implements IntConsumer {
+
+        private final RowOrder order;
+        private final int[] heap;
+        private int count;
+
+        private TopRows(RowOrder order, int limit) {
+            this.order = order;
+            this.heap = new int[limit];
+        }
+
+        static int[] select(RowBitmap rows, RowOrder order, int limit) {
+            TopRows top = new TopRows(order, limit);
+            rows.forEach(top);
+            // Heapsort: repeatedly move the largest remaining row to the end.
+            for (int end = top.count - 1; end > 0; end--) {
+                top.swap(0, end);
+                top.siftDown(0, end);
+            }
+            return Arrays.copyOf(top.heap, top.count);
+        }
+
+        @Override
+        public void accept(int row) {
+            if (count < heap.length) {
+                heap[count] = row;
+                siftUp(count++);
+            } else if (order.compare(row, heap[0]) < 0) {
+                heap[0] = row;
+                siftDown(0, count);
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (order.compare(heap[i], heap[parent]) <= 0) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                int largest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < end && order.compare(heap[left], heap[largest]) > 0) {
+                    largest = left;
+                }
+                if (right < end && order.compare(heap[right], heap[largest]) > 0) {
+                    largest = right;
+                }
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ems.readmodel.service;
+
+import com.ems.employee.dto.ReadSource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "ems.read-model")
+public class ReadModelProperties {
+
+    /**
+     * Loads the in-memory employee read model at startup. When disabled, every list query goes to the database.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Serving path for list queries that do not choose one with the {@code source} parameter.
+     */
+    private ReadSource defaultSource = ReadSource.DATABASE;
+
+    /**
+     * Id ranges loaded concurrently at startup.
+     */
+    private int loadParallelism = 4;
+
+    /**
+     * Rows read per query while loading and catching up.
+     */
+    private int pageSize = 5000;
+
+    /**
+     * How often changes that did not arrive as local events (other instances, missed events) are pulled in.
+     */
+    private Duration catchUpInterval = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public ReadSource getDefaultSource() {
+        return defaultSource;
+    }
+
+    public void setDefaultSource(ReadSource defaultSource) {
+        this.defaultSource = defaultSource;
+    }
+
+    public int getLoadParallelism() {
+        return loadParallelism;
+    }
+
+    public void setLoadParallelism(int loadParallelism) {
+        this.loadParallelism = loadParallelism;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Duration getCatchUpInterval() {
+        return catchUpInterval;
+    }
+
+    public void setCatchUpInterval(Duration catchUpInterval) {
+        this.catchUpInterval = catchUpInterval;
+    }
+}
@@ -0,0 +1,274 @@
+package com.ems.readmodel.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of row numbers, split into chunks of 65536 rows as in a Roaring bitmap. A chunk holding up to
+ * {@value #ARRAY_LIMIT} rows is a sorted array of their low 16 bits, a denser one a 1024-word bitset, so a filter value
+ * that matches few rows costs a few bytes per row instead of a bit per row in the table. Not thread-safe.
+ */
+final class RowBitmap {
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Chunk[] chunks = new Chunk[4];
+    private int size;
+
+    boolean add(int row) {
+        char key = (char) (row >>> 16);
+        int i = find(key);
+        if (i < 0) {
+            i = -i - 1;
+            insertChunk(i, key, new Chunk());
+        }
+        return chunks[i].add((char) row);
+    }
+
+    boolean remove(int row) {
+        int i = find((char) (row >>> 16));
+        if (i < 0 || !chunks[i].remove((char) row)) {
+            return false;
+        }
+        if (chunks[i].cardinality == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(chunks, i + 1, chunks, i, size - i - 1);
+            chunks[--size] = null;
+        }
+        return true;
+    }
+
+    boolean contains(int row) {
+        int i = find((char) (row >>> 16));
+        return i >= 0 && chunks[i].contains((char) row);
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += chunks[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    static RowBitmap and(RowBitmap a, RowBitmap b) {
+        RowBitmap result = new RowBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Chunk chunk = Chunk.and(a.chunks[i], b.chunks[j]);
+                if (chunk.cardinality > 0) {
+                    result.insertChunk(result.size, a.keys[i], chunk);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            chunks[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * Copies the rows at positions {@code from, from + 1, ...} in ascending order into {@code out} until it is full or
+     * the bitmap is exhausted, and returns how many were copied.
+     */
+    int copy(int from, int[] out) {
+        int copied = 0;
+        int skip = from;
+        for (int i = 0; i < size && copied < out.length; i++) {
+            Chunk chunk = chunks[i];
+            if (skip >= chunk.cardinality) {
+                skip -= chunk.cardinality;
+                continue;
+            }
+            copied = chunk.copy(keys[i] << 16, skip, out, copied);
+            skip = 0;
+        }
+        return copied;
+    }
+
+    private int find(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertChunk(int i, char key, Chunk chunk) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            chunks = Arrays.copyOf(chunks, size * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(chunks, i, chunks, i + 1, size - i);
+        keys[i] = key;
+        chunks[i] = chunk;
+        size++;
+    }
+
+    /**
+     * Rows sharing the upper 16 bits: either {@code values} (sorted) or {@code words} is set.
+     */
+    private static final class Chunk {
+
+        private char[] values = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        boolean add(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) != 0) {
+                    return false;
+                }
+                words[low >>> 6] |= bit;
+                cardinality++;
+                return true;
+            }
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                toWords();
+                return add(low);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) == 0) {
+                    return false;
+                }
+                words[low >>> 6] &= ~bit;
+                cardinality--;
+                // Converting back well below the limit keeps a chunk near it from flipping on every change.
+                if (cardinality < ARRAY_LIMIT / 2) {
+                    toValues();
+                }
+                return true;
+            }
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+            cardinality--;
+            return true;
+        }
+
+        boolean contains(char low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        static Chunk and(Chunk a, Chunk b) {
+            Chunk result = new Chunk();
+            if (a.words != null && b.words != null) {
+                result.values = null;
+                result.words = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) {
+                    long word = a.words[w] & b.words[w];
+                    result.words[w] = word;
+                    result.cardinality += Long.bitCount(word);
+                }
+                if (result.cardinality <= ARRAY_LIMIT) {
+                    result.toValues();
+                }
+                return result;
+            }
+            Chunk small = a.words == null && (b.words != null || a.cardinality <= b.cardinality) ? a : b;
+            Chunk other = small == a ? b : a;
+            result.values = new char[Math.max(small.cardinality, 4)];
+            for (int k = 0; k < small.cardinality; k++) {
+                if (other.contains(small.values[k])) {
+                    result.values[result.cardinality++] = small.values[k];
+                }
+            }
+            return result;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (words == null) {
+                for (int k = 0; k < cardinality; k++) {
+                    action.accept(base | values[k]);
+                }
+                return;
+            }
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        int copy(int base, int skip, int[] out, int copied) {
+            if (words == null) {
+                for (int k = skip; k < cardinality && copied < out.length; k++) {
+                    out[copied++] = base | values[k];
+                }
+                return copied;
+            }
+            for (int w = 0; w < WORDS && copied < out.length; w++) {
+                long word = words[w];
+                int bits = Long.bitCount(word);
+                if (skip >= bits) {
+                    skip -= bits;
+                    continue;
+                }
+                for (; skip > 0; skip--) {
+                    word &= word - 1;
+                }
+                while (word != 0 && copied < out.length) {
+                    out[copied++] = base | (w << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return copied;
+        }
+
+        private void toWords() {
+            words = new long[WORDS];
+            for (int k = 0; k < cardinality; k++) {
+                words[values[k] >>> 6] |= 1L << values[k];
+            }
+            values = null;
+        }
+
+        private void toValues() {
+            char[] array = new char[Math.max(cardinality, 4)];
+            int k = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    array[k++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = array;
+            words = null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ems.perf.errors;
+
+import com.ems.common.config.CorrelationIdFilter;
+import com.ems.common.exception.ErrorResponse;
+import com.ems.common.exception.GlobalExceptionHandler;
+import com.ems.common.exception.NotFoundException;
+import com.ems.common.exception.UnauthorizedException;
+import com.ems.perf.jmh.JmhLauncher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput of the 404 and failed-login error paths: an exception thrown {@code depth} frames below the handler,
+ * caught, and turned into response bytes.
+ * <ul>
+ *     <li>{@code before} &ndash; an exception that captures its stack trace, a new {@link ErrorResponse} and the
+ *     application's object mapper, as the handler worked before</li>
+ *     <li>{@code after} &ndash; the stackless domain exception and {@link GlobalExceptionHandler}'s templated body</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pperf test-compile exec:java -Dperf.mainClass=com.ems.perf.errors.ErrorPathBenchmark
+ * </pre>
+ *
+ * Setup fails if the two paths produce different bodies apart from the timestamp. {@code errorbench.forks} (default 1)
+ * and {@code errorbench.report} (default {@code target/loadtest/error-benchmark.json}) can be overridden.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    /**
+     * Stands in for the domain exceptions as they were: a plain runtime exception with a stack trace.
+     */
+    private static final class StackfulException extends RuntimeException {
+        StackfulException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Frames between the throw and the exception handler; a request through the servlet filters, Spring MVC, the
+     * transaction proxy and a repository is well over a hundred deep.
+     */
+    @Param({"50", "150"})
+    public int depth;
+
+    private ObjectMapper objectMapper;
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest notFoundRequest;
+    private MockHttpServletRequest loginRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        handler = new GlobalExceptionHandler();
+        notFoundRequest = request("GET", "/api/v1/employees/" + UUID.randomUUID());
+        loginRequest = request("POST", "/api/v1/auth/login");
+
+        assertSameBody(notFoundBefore(), notFoundAfter());
+        assertSameBody(loginBefore(), loginAfter());
+    }
+
+    @Benchmark
+    public byte[] notFoundBefore() throws IOException {
+        try {
+            throwAt(depth, () -> new StackfulException("Employee not found"));
+            throw new IllegalStateException();
+        } catch (StackfulException ex) {
+            return render(notFoundRequest, HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage());
+        }
+    }
+
+    @Benchmark
+    public byte[] notFoundAfter() {
+        try {
+            throwAt(depth, () -> new NotFoundException("Employee not found"));
+            throw new IllegalStateException();
+        } catch (NotFoundException ex) {
+            return handler.handleNotFound(ex, notFoundRequest).getBody();
+        }
+    }
+
+    @Benchmark
+    public byte[] loginBefore() throws IOException {
+        try {
+            throwAt(depth, () -> new StackfulException("Invalid credentials"));
+            throw new IllegalStateException();
+        } catch (StackfulException ex) {
+            return render(loginRequest, HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", ex.getMessage());
+        }
+    }
+
+    @Benchmark
+    public byte[] loginAfter() {
+        try {
+            throwAt(depth, () -> new UnauthorizedException("Invalid credentials"));
+            throw new IllegalStateException();
+        } catch (UnauthorizedException ex) {
+            return handler.handleUnauthorized(ex, loginRequest).getBody();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        JmhLauncher.run(ErrorPathBenchmark.class,
+                Path.of(System.getProperty("errorbench.report", "target/loadtest/error-benchmark.json")),
+                Integer.getInteger("errorbench.forks", 1));
+    }
+
+    private byte[] render(MockHttpServletRequest request, HttpStatus status, String code, String message) throws IOException {
+        ErrorResponse body = new ErrorResponse();
+        body.setTimestamp(OffsetDateTime.now());
+        body.setStatus(status.value());
+        body.setError(status.getReasonPhrase());
+        body.setCode(code);
+        body.setMessage(message);
+        body.setPath(request.getRequestURI());
+        Object cid = request.getAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE);
+        if (cid != null) {
+            body.setCorrelationId(cid.toString());
+        }
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    private void assertSameBody(byte[] before, byte[] after) throws IOException {
+        ObjectNode expected = (ObjectNode) objectMapper.readTree(before);
+        ObjectNode actual = (ObjectNode) objectMapper.readTree(after);
+        expected.remove("timestamp");
+        actual.remove("timestamp");
+        if (!expected.toString().equals(actual.toString())) {
+            throw new IllegalStateException("Bodies differ\nbefore: " + new String(before) + "\nafter:  " + new String(after));
+        }
+    }
+
+    private static void throwAt(int depth, Supplier<RuntimeException> exception) {
+        if (depth <= 0) {
+            throw exception.get();
+        }
+        throwAt(depth - 1, exception);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setAttribute(CorrelationIdFilter.REQUEST_ATTRIBUTE, UUID.randomUUID().toString());
+        return request;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ems.perf.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a JMH benchmark class from {@code exec:java} with the GC profiler and writes the results as JSON.
+ */
+public final class JmhLauncher {
+
+    private JmhLauncher() {
+    }
+
+    public static void run(Class<?> benchmark, Path reportFile, int forks) throws IOException, RunnerException {
+        // exec:java runs on a class loader; forked benchmark JVMs need its entries on their class path.
+        if (Thread.currentThread().getContextClassLoader() instanceof URLClassLoader loader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : loader.getURLs()) {
+                entries.add(toPath(url));
+            }
+            System.setProperty("java.class.path", String.join(File.pathSeparator, entries));
+        }
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        new Runner(new OptionsBuilder()
+                .include(benchmark.getName())
+                .forks(forks)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(reportFile.toString())
+                .build()).run();
+    }
+
+    private static String toPath(URL url) {
+        try {
+            return Path.of(url.toURI()).toString();
+        } catch (URISyntaxException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.ems.perf.json;
+
+import com.ems.common.exception.ErrorDetail;
+import com.ems.common.exception.ErrorResponse;
+import com.ems.common.pagination.PageMeta;
+import com.ems.common.pagination.PageResponse;
+import com.ems.department.dto.DepartmentHeadcount;
+import com.ems.department.dto.DepartmentResponse;
+import com.ems.employee.dto.EmployeeDepartmentSummary;
+import com.ems.employee.dto.EmployeeResponse;
+import com.ems.employee.entity.EmployeeRole;
+import com.ems.employee.entity.EmployeeStatus;
+import com.ems.perf.jmh.JmhLauncher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written response serializers with Jackson's reflective bean serializers, using an object mapper
+ * configured as the application's. The {@code reflective} mapper switches the serializers off with mix-ins, so both
+ * sides see the same annotations otherwise. Setup fails if the two mappers produce different bytes for any fixture.
+ *
+ * <pre>
+ * mvn -Pperf test-compile exec:java -Dperf.mainClass=com.ems.perf.json.ResponseSerializationBenchmark
+ * </pre>
+ *
+ * Reports time and allocation per operation ({@code gc.alloc.rate.norm}). {@code jsonbench.forks} (default 1) and
+ * {@code jsonbench.report} (default {@code target/loadtest/json-benchmark.json}) can be overridden.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class ReflectiveMixIn {
+    }
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper streaming;
+    private ObjectMapper reflective;
+    private PageResponse<EmployeeResponse> employees;
+    private PageResponse<DepartmentResponse> departments;
+    private ErrorResponse error;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        streaming = mapper().build();
+        reflective = mapper()
+                .mixIn(PageResponse.class, ReflectiveMixIn.class)
+                .mixIn(EmployeeResponse.class, ReflectiveMixIn.class)
+                .mixIn(DepartmentResponse.class, ReflectiveMixIn.class)
+                .mixIn(ErrorResponse.class, ReflectiveMixIn.class)
+                .build();
+
+        Random random = new Random(42);
+        List<EmployeeResponse> employeeItems = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            employeeItems.add(employee(random, i));
+        }
+        employees = new PageResponse<>(employeeItems, new PageMeta(0, pageSize, 10_000, 10_000 / pageSize));
+        List<DepartmentResponse> departmentItems = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            departmentItems.add(department(random, i));
+        }
+        departments = new PageResponse<>(departmentItems, new PageMeta(0, pageSize, pageSize, 1));
+        error = new ErrorResponse();
+        error.setTimestamp(OffsetDateTime.now());
+        error.setStatus(400);
+        error.setError("Bad Request");
+        error.setCode("VALIDATION_ERROR");
+        error.setMessage("Validation failed");
+        error.setPath("/api/v1/employees");
+        error.setCorrelationId(UUID.randomUUID().toString());
+        error.setDetails(List.of(new ErrorDetail("email", "must be a well-formed email address"),
+                new ErrorDetail("salary", "must be greater than or equal to 0")));
+
+        for (Object fixture : List.of(employees, departments, error)) {
+            byte[] expected = reflective.writeValueAsBytes(fixture);
+            byte[] actual = streaming.writeValueAsBytes(fixture);
+            if (!Arrays.equals(expected, actual)) {
+                throw new IllegalStateException("Output differs for " + fixture.getClass().getSimpleName()
+                        + "\nreflective: " + new String(expected) + "\nstreaming:  " + new String(actual));
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] employeePageReflective() throws JsonProcessingException {
+        return reflective.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] employeePageStreaming() throws JsonProcessingException {
+        return streaming.writeValueAsBytes(employees);
+    }
+
+    @Benchmark
+    public byte[] departmentPageReflective() throws JsonProcessingException {
+        return reflective.writeValueAsBytes(departments);
+    }
+
+    @Benchmark
+    public byte[] departmentPageStreaming() throws JsonProcessingException {
+        return streaming.writeValueAsBytes(departments);
+    }
+
+    @Benchmark
+    public byte[] errorReflective() throws JsonProcessingException {
+        return reflective.writeValueAsBytes(error);
+    }
+
+    @Benchmark
+    public byte[] errorStreaming() throws JsonProcessingException {
+        return streaming.writeValueAsBytes(error);
+    }
+
+    public static void main(String[] args) throws Exception {
+        JmhLauncher.run(ResponseSerializationBenchmark.class,
+                Path.of(System.getProperty("jsonbench.report", "target/loadtest/json-benchmark.json")),
+                Integer.getInteger("jsonbench.forks", 1));
+    }
+
+    /**
+     * The object mapper Spring Boot builds for the application with its default settings.
+     */
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static EmployeeResponse employee(Random random, int i) {
+        OffsetDateTime createdAt = timestamp(random);
+        EmployeeResponse employee = new EmployeeResponse();
+        employee.setId(UUID.randomUUID());
+        employee.setFirstName("First" + i);
+        employee.setLastName("Last \"" + i + "\"");
+        employee.setEmail("employee" + i + "@example.com");
+        employee.setPhone(i % 3 == 0 ? null : "+1-555-01" + (i % 100));
+        employee.setDesignation("Engineer");
+        employee.setSalary(BigDecimal.valueOf(30_000_00L + random.nextInt(200_000_00), 2));
+        employee.setDepartmentId(i % 5 == 0 ? null : UUID.randomUUID());
+        employee.setRole(EmployeeRole.values()[i % EmployeeRole.values().length]);
+        employee.setStatus(i % 7 == 0 ? EmployeeStatus.INACTIVE : EmployeeStatus.ACTIVE);
+        employee.setCreatedAt(createdAt);
+        employee.setUpdatedAt(i % 4 == 0 ? createdAt.withNano(0) : createdAt.plusNanos(random.nextInt(1_000_000) * 1000L));
+        employee.setVersion((long) random.nextInt(20));
+        if (i % 2 == 0 && employee.getDepartmentId() != null) {
+            employee.setDepartment(new EmployeeDepartmentSummary(employee.getDepartmentId(), "Engineering",
+                    i % 4 == 0 ? null : "Builds the product"));
+        }
+        return employee;
+    }
+
+    private static DepartmentResponse department(Random random, int i) {
+        DepartmentResponse department = new DepartmentResponse();
+        department.setId(UUID.randomUUID());
+        department.setName("Department " + i);
+        department.setDescription(i % 3 == 0 ? null : "Description of department " + i);
+        department.setCreatedAt(timestamp(random));
+        department.setUpdatedAt(timestamp(random).withOffsetSameInstant(ZoneOffset.ofHoursMinutes(5, 30)));
+        department.setVersion((long) i);
+        if (i % 2 == 0) {
+            department.setHeadcount(new DepartmentHeadcount(random.nextInt(500), random.nextInt(50)));
+        }
+        return department;
+    }
+
+    private static OffsetDateTime timestamp(Random random) {
+        // Microsecond precision, as stored.
+        return OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)
+                .plusSeconds(random.nextInt(200_000_000))
+                .plusNanos(random.nextInt(1_000_000) * 1000L);
+    }
+}
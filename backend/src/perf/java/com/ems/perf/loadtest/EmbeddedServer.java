@@ -0,0 +1,57 @@
+package com.ems.perf.loadtest;
+
+import com.ems.EmployeeManagementApplication;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application in-process on a random port using the {@code ci} (H2) profile.
+ */
+public final class EmbeddedServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    private EmbeddedServer(ConfigurableApplicationContext context, int port) {
+        this.context = context;
+        this.port = port;
+    }
+
+    public static EmbeddedServer start(String... extraProperties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:ems-loadtest-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=MySQL",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                "--spring.jpa.properties.hibernate.format_sql=false"
+        ));
+        for (String property : extraProperties) {
+            args.add("--" + property);
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .profiles("ci")
+                .run(args.toArray(new String[0]));
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        return new EmbeddedServer(context, port);
+    }
+
+    public ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
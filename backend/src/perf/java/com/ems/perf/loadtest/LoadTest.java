@@ -0,0 +1,100 @@
+package com.ems.perf.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a {@link Workload} with a fixed number of closed-loop workers: seed, warm up, then measure.
+ */
+public class LoadTest {
+
+    private final LoadTestConfig config;
+
+    public LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public LoadTestResult run(String baseUrl) throws InterruptedException {
+        ApiClient client = new ApiClient(baseUrl, config.getConcurrency(), objectMapper());
+        Workload workload = new Workload(client, config);
+        workload.seed();
+
+        runPhase(workload, config.getWarmup().toNanos(), false);
+        long start = System.nanoTime();
+        List<Map<Operation, LatencyRecorder>> perWorker = runPhase(workload, config.getDuration().toNanos(), true);
+        long elapsed = System.nanoTime() - start;
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        for (Operation op : Operation.values()) {
+            merged.put(op, new LatencyRecorder());
+        }
+        for (Map<Operation, LatencyRecorder> worker : perWorker) {
+            worker.forEach((op, recorder) -> merged.get(op).mergeFrom(recorder));
+        }
+        return new LoadTestResult(config, merged, elapsed);
+    }
+
+    private List<Map<Operation, LatencyRecorder>> runPhase(Workload workload, long durationNanos, boolean measured)
+            throws InterruptedException {
+        int workers = config.getConcurrency();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        CountDownLatch done = new CountDownLatch(workers);
+        List<Map<Operation, LatencyRecorder>> recorders = new ArrayList<>();
+        long deadline = System.nanoTime() + durationNanos;
+
+        for (int w = 0; w < workers; w++) {
+            Map<Operation, LatencyRecorder> own = new EnumMap<>(Operation.class);
+            for (Operation op : Operation.values()) {
+                own.put(op, new LatencyRecorder());
+            }
+            recorders.add(own);
+            Random random = new Random(config.getRandomSeed() * 31 + w + (measured ? 1_000 : 0));
+
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        Operation op = workload.next(random);
+                        long t0 = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = workload.execute(op, random);
+                        } catch (RuntimeException e) {
+                            ok = false;
+                        }
+                        long latency = System.nanoTime() - t0;
+                        LatencyRecorder recorder = own.get(op);
+                        recorder.record(latency);
+                        if (!ok) {
+                            recorder.recordError();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return recorders;
+    }
+}
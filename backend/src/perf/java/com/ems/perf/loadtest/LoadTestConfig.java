@@ -0,0 +1,121 @@
+package com.ems.perf.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load-test settings, read from {@code -Dloadtest.*} system properties.
+ */
+public class LoadTestConfig {
+
+    private static final String DEFAULT_MIX = "login=5,list=40,get=35,create=8,update=8,delete=4";
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int seedDepartments;
+    private final int seedEmployees;
+    private final int seedUsers;
+    private final long randomSeed;
+    private final Map<Operation, Integer> mix;
+    private final Path reportFile;
+
+    private LoadTestConfig(String baseUrl, int concurrency, Duration warmup, Duration duration, int seedDepartments,
+                           int seedEmployees, int seedUsers, long randomSeed, Map<Operation, Integer> mix, Path reportFile) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.seedDepartments = seedDepartments;
+        this.seedEmployees = seedEmployees;
+        this.seedUsers = seedUsers;
+        this.randomSeed = randomSeed;
+        this.mix = mix;
+        this.reportFile = reportFile;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl"),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 5)),
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30)),
+                Integer.getInteger("loadtest.seedDepartments", 10),
+                Integer.getInteger("loadtest.seedEmployees", 500),
+                Integer.getInteger("loadtest.seedUsers", 20),
+                Long.getLong("loadtest.randomSeed", 42L),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest/report.json"))
+        );
+    }
+
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected name=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for '" + parts[0] + "'");
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Operation mix must have at least one positive weight");
+        }
+        return weights;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public LoadTestConfig withBaseUrl(String url) {
+        return new LoadTestConfig(url, concurrency, warmup, duration, seedDepartments, seedEmployees, seedUsers,
+                randomSeed, mix, reportFile);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getSeedDepartments() {
+        return seedDepartments;
+    }
+
+    public int getSeedEmployees() {
+        return seedEmployees;
+    }
+
+    public int getSeedUsers() {
+        return seedUsers;
+    }
+
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public Path getReportFile() {
+        return reportFile;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ems.perf.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Aggregated outcome of a load-test run, rendered as a stable, diffable JSON document.
+ */
+public class LoadTestResult {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final LoadTestConfig config;
+    private final Map<Operation, LatencyRecorder> recorders;
+    private final long elapsedNanos;
+
+    public LoadTestResult(LoadTestConfig config, Map<Operation, LatencyRecorder> recorders, long elapsedNanos) {
+        this.config = config;
+        this.recorders = recorders;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double totalThroughput() {
+        long count = recorders.values().stream().mapToLong(LatencyRecorder::count).sum();
+        return count / seconds();
+    }
+
+    public Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", configSection());
+        report.put("elapsedSeconds", round(seconds()));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        LatencyRecorder total = new LatencyRecorder();
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            if (entry.getValue().count() == 0) {
+                continue;
+            }
+            operations.put(entry.getKey().getKey(), summary(entry.getValue()));
+            total.mergeFrom(entry.getValue());
+        }
+        report.put("operations", operations);
+        report.put("total", summary(total));
+        return report;
+    }
+
+    private Map<String, Object> configSection() {
+        Map<String, Object> section = new LinkedHashMap<>();
+        section.put("concurrency", config.getConcurrency());
+        section.put("warmupSeconds", config.getWarmup().toSeconds());
+        section.put("durationSeconds", config.getDuration().toSeconds());
+        section.put("seedDepartments", config.getSeedDepartments());
+        section.put("seedEmployees", config.getSeedEmployees());
+        section.put("seedUsers", config.getSeedUsers());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.getMix().forEach((op, weight) -> mix.put(op.getKey(), weight));
+        section.put("mix", mix);
+        return section;
+    }
+
+    private Map<String, Object> summary(LatencyRecorder recorder) {
+        long[] sorted = recorder.sorted();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", sorted.length);
+        summary.put("errors", recorder.errors());
+        summary.put("throughputPerSecond", round(sorted.length / seconds()));
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        long sum = 0;
+        for (long v : sorted) {
+            sum += v;
+        }
+        latency.put("min", millis(sorted.length == 0 ? 0 : sorted[0]));
+        latency.put("mean", sorted.length == 0 ? 0.0 : round(sum / (double) sorted.length / 1_000_000.0));
+        for (double p : PERCENTILES) {
+            latency.put(percentileKey(p), millis(LatencyRecorder.percentile(sorted, p)));
+        }
+        latency.put("max", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+
+    private static String percentileKey(double p) {
+        return p == Math.rint(p) ? "p" + (int) p : "p" + Double.toString(p).replace(".", "");
+    }
+
+    private double seconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
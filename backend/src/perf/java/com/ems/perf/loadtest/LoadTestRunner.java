@@ -0,0 +1,45 @@
+package com.ems.perf.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * End-to-end load test. Boots the application in-process on the H2 {@code ci} profile (unless
+ * {@code -Dloadtest.baseUrl} points at a running server), seeds data, replays a weighted mix of login, filtered/sorted
+ * list, get-by-id, create, update and soft-delete calls, and writes per-operation throughput and latency percentiles
+ * as JSON.
+ *
+ * <pre>
+ * mvn -Pperf test-compile exec:java -Dloadtest.concurrency=32 -Dloadtest.durationSeconds=60
+ * </pre>
+ *
+ * Other knobs: {@code loadtest.warmupSeconds}, {@code loadtest.seedDepartments}, {@code loadtest.seedEmployees},
+ * {@code loadtest.seedUsers}, {@code loadtest.randomSeed}, {@code loadtest.mix} (e.g.
+ * {@code login=5,list=40,get=35,create=8,update=8,delete=4}) and {@code loadtest.report} (output file).
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        LoadTestResult result;
+        if (config.getBaseUrl() != null && !config.getBaseUrl().isBlank()) {
+            result = new LoadTest(config).run(config.getBaseUrl());
+        } else {
+            try (EmbeddedServer server = EmbeddedServer.start()) {
+                result = new LoadTest(config.withBaseUrl(server.baseUrl())).run(server.baseUrl());
+            }
+        }
+
+        Path reportFile = config.getReportFile();
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        LoadTest.objectMapper().writeValue(reportFile.toFile(), result.toReport());
+        System.out.printf("Load test finished: %.1f req/s overall, report written to %s%n",
+                result.totalThroughput(), reportFile.toAbsolutePath());
+    }
+}
@@ -0,0 +1,29 @@
+package com.ems.perf.loadtest;
+
+public enum Operation {
+    LOGIN("login"),
+    LIST("list"),
+    GET_BY_ID("get"),
+    CREATE("create"),
+    UPDATE("update"),
+    SOFT_DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation op : values()) {
+            if (op.key.equalsIgnoreCase(key)) {
+                return op;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
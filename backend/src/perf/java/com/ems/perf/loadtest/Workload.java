@@ -0,0 +1,176 @@
+package com.ems.perf.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeds a realistic data set and replays a weighted mix of API calls against it.
+ */
+public class Workload {
+
+    private static final String[] ROLES = {"ADMIN", "HR", "EMPLOYEE", "EMPLOYEE", "EMPLOYEE"};
+    private static final String[] DESIGNATIONS = {"Engineer", "Senior Engineer", "Manager", "Analyst", "Recruiter", "Director"};
+    private static final String[] SORTS = {null, "lastName,asc", "createdAt,desc", "salary,desc", "firstName,asc"};
+    private static final String USER_PASSWORD = "LoadTest#2024";
+
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final Operation[] schedule;
+
+    private final List<String> departmentIds = new ArrayList<>();
+    private final List<String> userEmails = new ArrayList<>();
+    private final List<SeededEmployee> employees = new ArrayList<>();
+
+    public Workload(ApiClient client, LoadTestConfig config) {
+        this.client = client;
+        this.config = config;
+        this.schedule = buildSchedule(config.getMix());
+    }
+
+    private static Operation[] buildSchedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(op);
+            }
+        });
+        return slots.toArray(new Operation[0]);
+    }
+
+    public void seed() {
+        Random random = new Random(config.getRandomSeed());
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        for (int i = 0; i < config.getSeedDepartments(); i++) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("name", "LT-" + runId + "-Dept-" + i);
+            body.put("description", "Load test department " + i);
+            ApiClient.Response response = expectSuccess(client.post("/api/v1/departments", body), "seed department");
+            departmentIds.add(response.json().get("id").asText());
+        }
+
+        for (int i = 0; i < config.getSeedUsers(); i++) {
+            Map<String, Object> body = employeeBody(random, "lt-user-" + runId + "-" + i + "@example.com");
+            body.put("password", USER_PASSWORD);
+            body.remove("status");
+            ApiClient.Response response = expectSuccess(client.post("/api/v1/auth/register", body), "seed user");
+            userEmails.add(body.get("email").toString());
+            addEmployee(response.json(), body);
+        }
+
+        for (int i = 0; i < config.getSeedEmployees(); i++) {
+            Map<String, Object> body = employeeBody(random, "lt-" + runId + "-" + i + "@example.com");
+            ApiClient.Response response = expectSuccess(client.post("/api/v1/employees", body), "seed employee");
+            addEmployee(response.json(), body);
+        }
+    }
+
+    public Operation next(Random random) {
+        return schedule[random.nextInt(schedule.length)];
+    }
+
+    /**
+     * Executes one call and reports whether the server answered with the status the operation expects.
+     */
+    public boolean execute(Operation operation, Random random) {
+        return switch (operation) {
+            case LOGIN -> login(random);
+            case LIST -> list(random);
+            case GET_BY_ID -> client.get("/api/v1/employees/" + randomEmployee(random).id).isSuccess();
+            case CREATE -> create(random);
+            case UPDATE -> update(random);
+            case SOFT_DELETE -> client.delete("/api/v1/employees/" + randomEmployee(random).id).isSuccess();
+        };
+    }
+
+    private boolean login(Random random) {
+        String email;
+        synchronized (userEmails) {
+            email = userEmails.get(random.nextInt(userEmails.size()));
+        }
+        return client.post("/api/v1/auth/login", Map.of("email", email, "password", USER_PASSWORD)).isSuccess();
+    }
+
+    private boolean list(Random random) {
+        StringBuilder query = new StringBuilder("/api/v1/employees?page=").append(random.nextInt(3)).append("&size=20");
+        if (random.nextBoolean()) {
+            query.append("&departmentId=").append(randomDepartment(random));
+        }
+        if (random.nextBoolean()) {
+            query.append("&status=ACTIVE");
+        }
+        if (random.nextInt(5) == 0) {
+            query.append("&role=").append(ROLES[random.nextInt(ROLES.length)]);
+        }
+        String sort = SORTS[random.nextInt(SORTS.length)];
+        if (sort != null) {
+            query.append("&sort=").append(sort);
+        }
+        return client.get(query.toString()).isSuccess();
+    }
+
+    private boolean create(Random random) {
+        Map<String, Object> body = employeeBody(random, "lt-" + UUID.randomUUID() + "@example.com");
+        ApiClient.Response response = client.post("/api/v1/employees", body);
+        if (response.isSuccess()) {
+            addEmployee(response.json(), body);
+        }
+        return response.isSuccess();
+    }
+
+    private boolean update(Random random) {
+        SeededEmployee target = randomEmployee(random);
+        Map<String, Object> body = employeeBody(random, target.email);
+        body.put("status", "ACTIVE");
+        return client.put("/api/v1/employees/" + target.id, body).isSuccess();
+    }
+
+    private Map<String, Object> employeeBody(Random random, String email) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("firstName", "First" + random.nextInt(10_000));
+        body.put("lastName", "Last" + random.nextInt(10_000));
+        body.put("email", email);
+        body.put("phone", "+1 555 " + (1_000_000 + random.nextInt(8_999_999)));
+        body.put("designation", DESIGNATIONS[random.nextInt(DESIGNATIONS.length)]);
+        body.put("salary", BigDecimal.valueOf(30_000 + random.nextInt(170_000_00) / 100.0).setScale(2, RoundingMode.HALF_UP));
+        body.put("departmentId", randomDepartment(random));
+        body.put("role", ROLES[random.nextInt(ROLES.length)]);
+        body.put("status", "ACTIVE");
+        return body;
+    }
+
+    private String randomDepartment(Random random) {
+        return departmentIds.get(random.nextInt(departmentIds.size()));
+    }
+
+    private SeededEmployee randomEmployee(Random random) {
+        synchronized (employees) {
+            return employees.get(random.nextInt(employees.size()));
+        }
+    }
+
+    private void addEmployee(JsonNode created, Map<String, Object> body) {
+        SeededEmployee employee = new SeededEmployee(created.get("id").asText(), body.get("email").toString());
+        synchronized (employees) {
+            employees.add(employee);
+        }
+    }
+
+    private static ApiClient.Response expectSuccess(ApiClient.Response response, String step) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(step + " failed with HTTP " + response.status());
+        }
+        return response;
+    }
+
+    private record SeededEmployee(String id, String email) {
+    }
+}
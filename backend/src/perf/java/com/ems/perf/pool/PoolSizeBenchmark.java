@@ -0,0 +1,63 @@
+package com.ems.perf.pool;
+
+import com.ems.perf.loadtest.EmbeddedServer;
+import com.ems.perf.loadtest.LoadTest;
+import com.ems.perf.loadtest.LoadTestConfig;
+import com.ems.perf.loadtest.LoadTestResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the load-test workload once per fixed pool size (adaptive sizing disabled) on the H2 profile and reports
+ * throughput and latency per size.
+ *
+ * <pre>
+ * mvn -Pperf test-compile exec:java -Dperf.mainClass=com.ems.perf.pool.PoolSizeBenchmark -Dpoolbench.sizes=2,5,10,20
+ * </pre>
+ *
+ * Uses a read-heavy mix by default ({@code list=60,get=40}); all {@code loadtest.*} settings still apply. Results are
+ * written to {@code target/loadtest/pool-benchmark.json} (override with {@code -Dpoolbench.report}).
+ */
+public final class PoolSizeBenchmark {
+
+    private PoolSizeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("loadtest.mix") == null) {
+            System.setProperty("loadtest.mix", "list=60,get=40");
+        }
+        if (System.getProperty("loadtest.concurrency") == null) {
+            System.setProperty("loadtest.concurrency", "64");
+        }
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        List<Map<String, Object>> runs = new ArrayList<>();
+        for (String token : System.getProperty("poolbench.sizes", "2,5,10,20,40").split(",")) {
+            int size = Integer.parseInt(token.trim());
+            try (EmbeddedServer server = EmbeddedServer.start(
+                    "ems.datasource.pool.adaptive.enabled=false",
+                    "spring.datasource.hikari.maximum-pool-size=" + size,
+                    "spring.datasource.hikari.minimum-idle=" + size)) {
+                LoadTestResult result = new LoadTest(config.withBaseUrl(server.baseUrl())).run(server.baseUrl());
+                Map<String, Object> run = new LinkedHashMap<>();
+                run.put("poolSize", size);
+                run.putAll(result.toReport());
+                runs.add(run);
+                System.out.printf("pool size %3d: %.1f req/s%n", size, result.totalThroughput());
+            }
+        }
+
+        Path reportFile = Path.of(System.getProperty("poolbench.report", "target/loadtest/pool-benchmark.json"));
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        LoadTest.objectMapper().writeValue(reportFile.toFile(), Map.of("runs", runs));
+        System.out.println("Pool benchmark written to " + reportFile.toAbsolutePath());
+    }
+}
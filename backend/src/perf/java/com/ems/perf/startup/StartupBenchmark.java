@@ -0,0 +1,202 @@
+package com.ems.perf.startup;
+
+import com.ems.perf.loadtest.LoadTest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+/**
+ * Starts cold JVMs from the fast-startup build and measures time to first request: from process start until
+ * {@code GET /api/v1/employees?size=1} returns 200. Every mode runs the same jar against the same H2 file database;
+ * they differ only in what is switched on:
+ * <ul>
+ *     <li>{@code BASELINE} &ndash; {@code ci} profile, as the application starts today</li>
+ *     <li>{@code LAZY} &ndash; adds the {@code fast-startup} profile (lazy beans, no DDL at boot)</li>
+ *     <li>{@code AOT} &ndash; also runs the AOT-generated bean definitions</li>
+ *     <li>{@code FAST} &ndash; also maps the class-data sharing archive</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pfast-startup -DskipTests package
+ * mvn -Pperf test-compile exec:java -Dperf.mainClass=com.ems.perf.startup.StartupBenchmark -Dstartupbench.runs=5
+ * </pre>
+ *
+ * Modes run interleaved so drift on the machine affects all of them alike. Other knobs: {@code startupbench.modes}
+ * (e.g. {@code BASELINE,FAST}), {@code startupbench.jar}, {@code startupbench.timeoutSeconds} and
+ * {@code startupbench.report} (default {@code target/loadtest/startup-benchmark.json}). Application output of each run
+ * goes to {@code target/loadtest/startup/}.
+ */
+public final class StartupBenchmark {
+
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    private enum Mode {
+        BASELINE(false, false, "ci"),
+        LAZY(false, false, "ci,fast-startup"),
+        AOT(true, false, "ci,fast-startup"),
+        FAST(true, true, "ci,fast-startup");
+
+        private final boolean aot;
+        private final boolean cds;
+        private final String profiles;
+
+        Mode(boolean aot, boolean cds, String profiles) {
+            this.aot = aot;
+            this.cds = cds;
+            this.profiles = profiles;
+        }
+    }
+
+    private final Path jar;
+    private final Path archive;
+    private final Path database;
+    private final Path logDirectory;
+    private final Duration timeout;
+
+    private StartupBenchmark(Path jar, Path database, Path logDirectory, Duration timeout) {
+        this.jar = jar;
+        this.archive = jar.resolveSibling(jar.getFileName().toString().replaceFirst("\\.jar$", ".jsa"));
+        this.database = database;
+        this.logDirectory = logDirectory;
+        this.timeout = timeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(System.getProperty("startupbench.jar", "target/ems-backend-0.0.1-SNAPSHOT.jar"));
+        int runs = Integer.getInteger("startupbench.runs", 5);
+        List<Mode> modes = new ArrayList<>();
+        for (String token : System.getProperty("startupbench.modes", "BASELINE,LAZY,AOT,FAST").split(",")) {
+            modes.add(Mode.valueOf(token.trim()));
+        }
+        Duration timeout = Duration.ofSeconds(Integer.getInteger("startupbench.timeoutSeconds", 180));
+
+        Path workDirectory = Files.createTempDirectory("ems-startup-bench");
+        StartupBenchmark benchmark = new StartupBenchmark(jar, workDirectory.resolve("ems"),
+                Path.of("target/loadtest/startup"), timeout);
+        benchmark.checkBuild(modes);
+        Files.createDirectories(benchmark.logDirectory);
+
+        // Creates the schema, which the fast-startup profile leaves alone, and warms the OS file cache.
+        benchmark.timeToFirstRequest(Mode.BASELINE, "prepare");
+
+        Map<Mode, List<Long>> results = new EnumMap<>(Mode.class);
+        for (int run = 1; run <= runs; run++) {
+            for (Mode mode : modes) {
+                long millis = benchmark.timeToFirstRequest(mode, String.valueOf(run));
+                results.computeIfAbsent(mode, m -> new ArrayList<>()).add(millis);
+                System.out.printf("run %d %-8s %6d ms%n", run, mode, millis);
+            }
+        }
+
+        List<Map<String, Object>> report = new ArrayList<>();
+        Long baseline = results.containsKey(Mode.BASELINE) ? median(results.get(Mode.BASELINE)) : null;
+        for (Mode mode : modes) {
+            List<Long> samples = results.get(mode);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("mode", mode.name());
+            entry.put("samplesMs", samples);
+            entry.put("minMs", samples.stream().mapToLong(Long::longValue).min().orElse(0));
+            entry.put("medianMs", median(samples));
+            entry.put("maxMs", samples.stream().mapToLong(Long::longValue).max().orElse(0));
+            if (baseline != null) {
+                entry.put("speedup", (double) baseline / median(samples));
+            }
+            report.add(entry);
+            System.out.printf("%-8s median %6d ms%n", mode, median(samples));
+        }
+
+        Path reportFile = Path.of(System.getProperty("startupbench.report", "target/loadtest/startup-benchmark.json"));
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        LoadTest.objectMapper().writeValue(reportFile.toFile(), Map.of("runs", runs, "modes", report));
+        System.out.println("Startup benchmark written to " + reportFile.toAbsolutePath());
+    }
+
+    private void checkBuild(List<Mode> modes) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found; build it with mvn -Pfast-startup -DskipTests package");
+        }
+        try (JarFile file = new JarFile(jar.toFile())) {
+            if (file.getManifest().getMainAttributes().getValue("Class-Path") == null) {
+                throw new IllegalStateException(jar + " is not a fast-startup build; rebuild with mvn -Pfast-startup package");
+            }
+        }
+        if (modes.stream().anyMatch(m -> m.cds) && !Files.isRegularFile(archive)) {
+            throw new IllegalStateException("Class-data sharing archive " + archive + " not found");
+        }
+    }
+
+    private long timeToFirstRequest(Mode mode, String label) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.cds) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+            command.add("-Xlog:cds=off");
+        }
+        if (mode.aot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.addAll(List.of(
+                "-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + mode.profiles,
+                "--spring.datasource.url=jdbc:h2:file:" + database + ";MODE=MySQL",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.orm.jdbc.bind=WARN"
+        ));
+        Path log = logDirectory.resolve(mode.name().toLowerCase() + "-" + label + ".log");
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/employees?size=1"))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = started + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (HTTP.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - started) / 1_000_000;
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet.
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException(mode + " did not answer within " + timeout + ", see " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static long median(List<Long> samples) {
+        List<Long> sorted = samples.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}